@@ -0,0 +1,51 @@
+package com.spacetravel.benchmark;
+
+import com.spacetravel.entity.Planet;
+import com.spacetravel.entity.Ticket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the ticket and planet DAO hot paths. Run with {@code ./gradlew jmh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketDaoBenchmark {
+
+    @Benchmark
+    public Ticket save(TicketDatabaseState db) {
+        return db.ticketDao.save(new Ticket(db.client, db.fromPlanet, db.toPlanet));
+    }
+
+    @Benchmark
+    public Optional<Ticket> findById(TicketDatabaseState db) {
+        return db.ticketDao.findById(db.randomTicketId());
+    }
+
+    @Benchmark
+    public List<Ticket> findAllByClient(TicketDatabaseState db) {
+        return db.ticketDao.findAllByClient(db.randomClientId());
+    }
+
+    @Benchmark
+    public List<Ticket> findAllByDate(TicketDatabaseState db) {
+        return db.ticketDao.findAllByDate(db.randomDay());
+    }
+
+    @Benchmark
+    public Optional<Planet> planetFindById(TicketDatabaseState db) {
+        return db.planetDao.findById(db.randomPlanetId());
+    }
+}
@@ -0,0 +1,122 @@
+package com.spacetravel.benchmark;
+
+import com.spacetravel.config.HibernateUtil;
+import com.spacetravel.dao.PlanetDao;
+import com.spacetravel.dao.TicketDao;
+import com.spacetravel.entity.Client;
+import com.spacetravel.entity.Planet;
+import com.spacetravel.service.ClientCrudService;
+import com.spacetravel.service.PlanetCrudService;
+import com.spacetravel.service.Services;
+import com.spacetravel.service.TicketCrudService;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * In-memory H2 database migrated with the production scripts and seeded with {@link #tickets} tickets.
+ * <p>
+ * Tickets get dense ids {@code 1..tickets}, one client per 100 tickets (at least the 10 seeded ones), the five
+ * seeded planets and creation times spread over the year before {@link #LAST_DAY}, so per-client and per-day
+ * queries return a similar number of rows at every size. Each JMH fork builds its own database.
+ */
+@State(Scope.Benchmark)
+public class TicketDatabaseState {
+
+    static final String URL = "jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=false";
+    static final LocalDate LAST_DAY = LocalDate.of(2025, 6, 1);
+    static final int PLANETS = 5;
+    static final int DAYS = 365;
+
+    @Param({"1000", "100000", "1000000"})
+    public int tickets;
+
+    int clients;
+    TicketDao ticketDao;
+    PlanetDao planetDao;
+    TicketCrudService ticketService;
+    ClientCrudService clientService;
+    PlanetCrudService planetService;
+    Client client;
+    Planet fromPlanet;
+    Planet toPlanet;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        System.setProperty("config.file", "application-jmh.properties");
+        clients = Math.max(10, tickets / 100);
+
+        Flyway.configure()
+                .dataSource(URL, "sa", "")
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        seed();
+
+        Services services = Services.create();
+        ticketDao = services.ticketDao();
+        planetDao = services.planetDao();
+        ticketService = services.ticketService();
+        clientService = services.clientService();
+        planetService = services.planetService();
+        client = services.clientDao().findById(1L).orElseThrow();
+        fromPlanet = planetDao.findById(planetId(1)).orElseThrow();
+        toPlanet = planetDao.findById(planetId(2)).orElseThrow();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        HibernateUtil.shutdown();
+    }
+
+    long randomTicketId() {
+        return ThreadLocalRandom.current().nextLong(1, tickets + 1L);
+    }
+
+    long randomClientId() {
+        return ThreadLocalRandom.current().nextLong(1, clients + 1L);
+    }
+
+    String randomPlanetId() {
+        return planetId(ThreadLocalRandom.current().nextInt(1, PLANETS + 1));
+    }
+
+    LocalDate randomDay() {
+        return LAST_DAY.minusDays(ThreadLocalRandom.current().nextInt(DAYS));
+    }
+
+    /**
+     * Seeded tickets fly from planet {@code id % 5 + 1} to planet {@code (id + 1) % 5 + 1}.
+     */
+    static String planetId(long number) {
+        return "PLN00" + number;
+    }
+
+    private void seed() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM ticket");
+            statement.execute("INSERT INTO client (id, name) "
+                    + "SELECT X, CONCAT('Benchmark client ', X) FROM SYSTEM_RANGE(11, " + clients + ")");
+            statement.execute("ALTER SEQUENCE client_seq RESTART WITH " + (clients + 1));
+            statement.execute("INSERT INTO ticket (id, created_at, client_id, from_planet_id, to_planet_id) "
+                    + "SELECT X, DATEADD('MINUTE', -MOD(X * 7919, " + DAYS * 24 * 60 + "), TIMESTAMP '" + LAST_DAY + " 23:59:00'), "
+                    + "MOD(X, " + clients + ") + 1, "
+                    + "CONCAT('PLN00', MOD(X, " + PLANETS + ") + 1), "
+                    + "CONCAT('PLN00', MOD(X + 1, " + PLANETS + ") + 1) "
+                    + "FROM SYSTEM_RANGE(1, " + tickets + ")");
+            statement.execute("ALTER SEQUENCE ticket_seq RESTART WITH " + (tickets + 1));
+        }
+    }
+}
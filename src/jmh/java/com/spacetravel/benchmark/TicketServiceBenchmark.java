@@ -0,0 +1,70 @@
+package com.spacetravel.benchmark;
+
+import com.spacetravel.entity.Client;
+import com.spacetravel.entity.Planet;
+import com.spacetravel.entity.Ticket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of ticket service writes, including validation and planet lookups through the catalog.
+ * Run with {@code ./gradlew jmh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketServiceBenchmark {
+
+    @Benchmark
+    public Ticket create(TicketDatabaseState db) {
+        return db.ticketService.create(new Ticket(db.client, db.fromPlanet, db.toPlanet));
+    }
+
+    /**
+     * The former {@code ticket create} CLI path: load the client and both planets, then save the ticket.
+     */
+    @Benchmark
+    public Ticket createWithLookups(TicketDatabaseState db) {
+        long clientId = db.randomClientId();
+        Client client = db.clientService.findById(clientId);
+        Planet fromPlanet = db.planetService.findById(TicketDatabaseState.planetId(1));
+        Planet toPlanet = db.planetService.findById(TicketDatabaseState.planetId(2));
+        return db.ticketService.create(new Ticket(client, fromPlanet, toPlanet));
+    }
+
+    /**
+     * One transaction and one INSERT; the foreign keys validate the client and planets.
+     */
+    @Benchmark
+    public Ticket createByReference(TicketDatabaseState db) {
+        return db.ticketService.create(db.randomClientId(), TicketDatabaseState.planetId(1),
+                TicketDatabaseState.planetId(2));
+    }
+
+    /**
+     * Moves a seeded ticket to a random planet other than its destination. Three out of four calls on an
+     * already updated ticket change the planet and issue an UPDATE; the fourth picks the current planet and is
+     * rejected after the same row SELECT.
+     */
+    @Benchmark
+    public Ticket updateFromPlanet(TicketDatabaseState db) {
+        long id = db.randomTicketId();
+        int offset = ThreadLocalRandom.current().nextInt(1, TicketDatabaseState.PLANETS) + 1;
+        String planetId = TicketDatabaseState.planetId((id + offset) % TicketDatabaseState.PLANETS + 1);
+        try {
+            return db.ticketService.updateFromPlanet(id, planetId);
+        } catch (IllegalArgumentException unchanged) {
+            return null;
+        }
+    }
+}
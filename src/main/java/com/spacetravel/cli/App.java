@@ -1,62 +1,94 @@
 package com.spacetravel.cli;
 
+import com.spacetravel.config.AppProperties;
+import com.spacetravel.config.DatabaseExecutor;
 import com.spacetravel.config.FlywayConfig;
 import com.spacetravel.config.HibernateUtil;
+import com.spacetravel.http.ApiServer;
+import com.spacetravel.http.ServerSettings;
+import com.spacetravel.metrics.Metrics;
 import com.spacetravel.util.LoggerUtil;
 import org.slf4j.Logger;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.Scanner;
 
 public class App {
     private static final Logger LOGGER = LoggerUtil.getLogger(App.class);
     private static final String DB_FILE_PATH = "./data/spacetravel.mv.db";
+    private static final AtomicBoolean SHUT_DOWN = new AtomicBoolean();
     private static boolean isRunning = false;
 
     public static void main(String[] args) {
+        int exitCode = 0;
         try {
             if (args.length == 0) {
-                LOGGER.warn("No command provided. Please use 'start' to begin.");
-                LOGGER.info("Please run the application with the 'start' command.");
+                LOGGER.warn("No command provided. Please use 'start', 'serve' or 'run' to begin.");
+                LOGGER.info("Please run the application with the 'start' (interactive CLI), 'serve' (HTTP API), "
+                        + "'run <script-file>' or '--batch' (commands from stdin) command.");
                 return;
             }
 
             String command = args[0].toLowerCase();
+            Metrics.startReporter();
 
             if ("start".equals(command)) {
-                if (!isDatabaseInitialized()) {
-                    LOGGER.info("Starting database migration...");
-                    FlywayConfig.migrate();
-                    LOGGER.info("Migration finished.");
-                    LOGGER.info("Database migration completed.");
-                }
+                migrateIfNeeded();
                 LOGGER.info("Entering interactive CLI mode. Type 'help' for list of commands.");
                 isRunning = true;
                 runInteractiveCLI();
+            } else if ("serve".equals(command)) {
+                migrateIfNeeded();
+                isRunning = true;
+                runServer();
+            } else if ("run".equals(command) || "--batch".equals(command)) {
+                exitCode = runBatch(args);
             } else {
-                LOGGER.error("Application not started. Please use 'start' to begin.");
+                LOGGER.error("Application not started. Please use 'start', 'serve' or 'run' to begin.");
             }
 
         } catch (Exception e) {
             LOGGER.error("Unexpected error occurred", e);
+            exitCode = 1;
         } finally {
             shutdown();
         }
+        if (exitCode != 0) {
+            System.exit(exitCode);
+        }
     }
 
     public static boolean isRunning() {
         return isRunning;
     }
 
+    private static void migrateIfNeeded() {
+        if (!isDatabaseInitialized()) {
+            LOGGER.info("Starting database migration...");
+            FlywayConfig.migrate();
+            LOGGER.info("Migration finished.");
+            LOGGER.info("Database migration completed.");
+        }
+    }
+
     private static boolean isDatabaseInitialized() {
         File dbFile = new File(DB_FILE_PATH);
         return dbFile.exists();
     }
 
     private static void runInteractiveCLI() {
-        try (Scanner scanner = new Scanner(System.in)) {
-            CommandParser commandParser = new CommandParser();
-
+        try (Scanner scanner = new Scanner(System.in);
+             CommandParser commandParser = new CommandParser()) {
             while (isRunning) {
                 System.out.print("> ");
                 String line = scanner.nextLine().trim();
@@ -73,6 +105,70 @@ public class App {
         }
     }
 
+    /**
+     * Serves the HTTP API until the JVM is asked to stop; the shutdown hook stops the server and waits
+     * for the main thread to release the database.
+     */
+    private static void runServer() throws InterruptedException {
+        ServerSettings settings = ServerSettings.from(AppProperties.load());
+        CountDownLatch released = new CountDownLatch(1);
+        try (DatabaseExecutor executor = new DatabaseExecutor();
+             ApiServer server = ApiServer.create(settings, executor)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                LOGGER.info("Shutdown requested, stopping HTTP API...");
+                server.close();
+                awaitQuietly(released);
+            }));
+
+            server.start();
+            LOGGER.info("Serving HTTP API on port {}. Press Ctrl+C to stop.", server.getPort());
+            server.awaitStop();
+        } finally {
+            isRunning = false;
+            shutdown();
+            released.countDown();
+        }
+    }
+
+    /**
+     * Runs {@code run <script-file> [--continue-on-error]} or {@code --batch [--continue-on-error]} (script on
+     * stdin) and returns the process exit code: 0 when no command failed, 1 otherwise.
+     */
+    private static int runBatch(String[] args) throws IOException {
+        boolean fromStdin = "--batch".equalsIgnoreCase(args[0]);
+        boolean continueOnError = Arrays.stream(args).anyMatch("--continue-on-error"::equalsIgnoreCase);
+        String scriptFile = fromStdin ? null : Arrays.stream(args, 1, args.length)
+                .filter(arg -> !arg.startsWith("--"))
+                .findFirst()
+                .orElse(null);
+        if (!fromStdin && scriptFile == null) {
+            LOGGER.error("Usage: run <script-file> [--continue-on-error]");
+            return 1;
+        }
+
+        migrateIfNeeded();
+        isRunning = true;
+        PrintStream out = new PrintStream(new BufferedOutputStream(System.out), false, StandardCharsets.UTF_8);
+        try (Reader script = fromStdin
+                ? new InputStreamReader(System.in, StandardCharsets.UTF_8)
+                : new FileReader(scriptFile, StandardCharsets.UTF_8)) {
+            BatchSummary summary = new BatchRunner(continueOnError, out).run(script);
+            LOGGER.info("{}", summary);
+            return summary.failed() > 0 ? 1 : 0;
+        } finally {
+            isRunning = false;
+            out.flush();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private static boolean processInputLine(CommandParser commandParser, String line) {
         if (line.isEmpty()) {
             return true; // continue loop
@@ -97,7 +193,11 @@ public class App {
 
 
     private static void shutdown() {
+        if (!SHUT_DOWN.compareAndSet(false, true)) {
+            return;
+        }
         try {
+            Metrics.shutdown();
             HibernateUtil.shutdown();
             LOGGER.info("Application shutdown completed. Goodbye!");
         } catch (Exception e) {
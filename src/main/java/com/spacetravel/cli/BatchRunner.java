@@ -0,0 +1,247 @@
+package com.spacetravel.cli;
+
+import com.spacetravel.config.TransactionTemplate;
+import com.spacetravel.entity.Client;
+import com.spacetravel.entity.Ticket;
+import com.spacetravel.service.ClientCrudService;
+import com.spacetravel.service.PlanetCrudService;
+import com.spacetravel.service.Services;
+import com.spacetravel.service.TicketCrudService;
+import com.spacetravel.util.LoggerUtil;
+import org.slf4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs a command script non-interactively. Blank lines and lines starting with {@code #} are skipped.
+ * <p>
+ * Consecutive {@code ticket create} commands are checked up front and inserted by reference, without loading
+ * clients or planets, in one transaction per group. Consecutive {@code client create} commands share one
+ * transaction. Either group is replayed one by one if its transaction fails. Any other command runs on its own
+ * through {@link CommandParser}.
+ * Groups hold at most {@link #MAX_GROUP_SIZE} commands. Every command gets a result line on {@code out},
+ * followed by a summary with throughput.
+ */
+public class BatchRunner {
+
+    public static final int MAX_GROUP_SIZE = 1000;
+
+    private static final String TICKET_CREATE = "ticket create";
+    private static final String CLIENT_CREATE = "client create";
+
+    private final ClientCrudService clientService;
+    private final PlanetCrudService planetService;
+    private final TicketCrudService ticketService;
+    private final CommandParser commandParser;
+    private final TransactionTemplate transactions = new TransactionTemplate();
+    private final boolean continueOnError;
+    private final PrintStream out;
+    private final Logger logger = LoggerUtil.getLogger(BatchRunner.class);
+
+    private BatchSummary.Builder summary;
+    private boolean stopped;
+
+    public BatchRunner(boolean continueOnError, PrintStream out) {
+        this(Services.create(), continueOnError, out);
+    }
+
+    private BatchRunner(Services services, boolean continueOnError, PrintStream out) {
+        this(services.clientService(), services.planetService(), services.ticketService(), continueOnError, out);
+    }
+
+    public BatchRunner(ClientCrudService clientService, PlanetCrudService planetService,
+                       TicketCrudService ticketService, boolean continueOnError, PrintStream out) {
+        this.clientService = clientService;
+        this.planetService = planetService;
+        this.ticketService = ticketService;
+        this.commandParser = new CommandParser(clientService, planetService, ticketService);
+        this.continueOnError = continueOnError;
+        this.out = out;
+    }
+
+    public BatchSummary run(Reader script) throws IOException {
+        summary = new BatchSummary.Builder();
+        stopped = false;
+
+        List<Command> group = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(script)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                Command command = new Command(lineNumber, trimmed.split("\\s+"));
+                if (stopped) {
+                    summary.skipped++;
+                    continue;
+                }
+                if (!group.isEmpty() && (!command.kind().equals(group.get(0).kind()) || group.size() == MAX_GROUP_SIZE)) {
+                    runGroup(group);
+                    group.clear();
+                    if (stopped) {
+                        summary.skipped++;
+                        continue;
+                    }
+                }
+                group.add(command);
+            }
+        }
+        if (!group.isEmpty()) {
+            runGroup(group);
+        }
+
+        BatchSummary result = summary.build();
+        out.println(result);
+        out.flush();
+        return result;
+    }
+
+    private void runGroup(List<Command> group) {
+        switch (group.get(0).kind()) {
+            case TICKET_CREATE -> runTicketCreates(group);
+            case CLIENT_CREATE -> runClientCreates(group);
+            default -> group.forEach(this::runSingle);
+        }
+    }
+
+    /**
+     * Checks the arguments of every command, then inserts all valid tickets by reference in one transaction,
+     * without loading clients or planets. Unknown ids fail on the foreign keys; the transaction then rolls back
+     * and the commands are replayed one by one, so each gets its own result. Commands after the first invalid
+     * one are skipped unless errors are tolerated.
+     */
+    private void runTicketCreates(List<Command> group) {
+        List<Command> accepted = new ArrayList<>(group.size());
+        List<TicketCreate> creates = new ArrayList<>(group.size());
+        for (Command command : group) {
+            if (stopped) {
+                summary.skipped++;
+                continue;
+            }
+            try {
+                creates.add(TicketCreate.parse(command));
+                accepted.add(command);
+            } catch (RuntimeException e) {
+                fail(command, e.getMessage());
+            }
+        }
+        if (creates.isEmpty()) {
+            return;
+        }
+
+        List<Ticket> saved = new ArrayList<>(creates.size());
+        try {
+            transactions.executeWithoutResult(session -> creates.forEach(create -> saved.add(create(create))));
+            summary.transactions++;
+            for (int i = 0; i < accepted.size(); i++) {
+                succeed(accepted.get(i), "ticket " + saved.get(i).getId());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Ticket batch of {} rolled back ({}), replaying commands one by one", accepted.size(), e.getMessage());
+            for (int i = 0; i < accepted.size(); i++) {
+                replayTicketCreate(accepted.get(i), creates.get(i));
+            }
+        }
+    }
+
+    private void replayTicketCreate(Command command, TicketCreate create) {
+        if (stopped) {
+            summary.skipped++;
+            return;
+        }
+        summary.transactions++;
+        try {
+            succeed(command, "ticket " + create(create).getId());
+        } catch (RuntimeException e) {
+            fail(command, e.getMessage());
+        }
+    }
+
+    private Ticket create(TicketCreate create) {
+        return ticketService.create(create.clientId(), create.fromPlanetId(), create.toPlanetId());
+    }
+
+    private void runClientCreates(List<Command> group) {
+        List<Client> created = new ArrayList<>(group.size());
+        try {
+            transactions.executeWithoutResult(session -> group.forEach(command ->
+                    created.add(clientService.create(clientName(command)))));
+            summary.transactions++;
+            for (int i = 0; i < group.size(); i++) {
+                succeed(group.get(i), "client " + created.get(i).getId());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Client batch of {} rolled back ({}), replaying commands one by one", group.size(), e.getMessage());
+            group.forEach(this::runSingle);
+        }
+    }
+
+    private static String clientName(Command command) {
+        if (command.args().length < 3) {
+            throw new IllegalArgumentException("usage: client create <name>");
+        }
+        return String.join(" ", Arrays.copyOfRange(command.args(), 2, command.args().length));
+    }
+
+    private void runSingle(Command command) {
+        if (stopped) {
+            summary.skipped++;
+            return;
+        }
+        int code = commandParser.executeCommand(command.args());
+        summary.transactions++;
+        switch (code) {
+            case 0 -> succeed(command, "done");
+            case 2 -> {
+                succeed(command, "exit requested, stopping script");
+                stopped = true;
+            }
+            default -> fail(command, "command failed, see log");
+        }
+    }
+
+    private void succeed(Command command, String detail) {
+        summary.succeeded++;
+        out.println("line " + command.line() + ": OK     " + command.text() + " -> " + detail);
+    }
+
+    private void fail(Command command, String reason) {
+        summary.failed++;
+        out.println("line " + command.line() + ": FAILED " + command.text() + " -> " + reason);
+        if (!continueOnError) {
+            stopped = true;
+        }
+    }
+
+    private record TicketCreate(long clientId, String fromPlanetId, String toPlanetId) {
+        static TicketCreate parse(Command command) {
+            String[] args = command.args();
+            if (args.length != 5) {
+                throw new IllegalArgumentException("usage: ticket create <client_id> <from_planet_id> <to_planet_id>");
+            }
+            if (args[3].equals(args[4])) {
+                throw new IllegalArgumentException("from and to planet must differ");
+            }
+            return new TicketCreate(Long.parseLong(args[2]), args[3], args[4]);
+        }
+    }
+
+    private record Command(int line, String[] args) {
+        String kind() {
+            return args.length > 1 ? args[0].toLowerCase() + " " + args[1].toLowerCase() : args[0].toLowerCase();
+        }
+
+        String text() {
+            return String.join(" ", args);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.spacetravel.cli;
+
+/**
+ * Outcome of a {@link BatchRunner} run.
+ */
+public record BatchSummary(int succeeded, int failed, int skipped, int transactions, long elapsedMillis) {
+
+    public int total() {
+        return succeeded + failed + skipped;
+    }
+
+    public double commandsPerSecond() {
+        return (succeeded + failed) * 1000.0 / Math.max(elapsedMillis, 1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Batch finished: %d commands, %d succeeded, %d failed, %d skipped, "
+                        + "%d transactions in %d ms (%.1f commands/s)",
+                total(), succeeded, failed, skipped, transactions, elapsedMillis, commandsPerSecond());
+    }
+
+    static final class Builder {
+        private final long startNanos = System.nanoTime();
+        int succeeded;
+        int failed;
+        int skipped;
+        int transactions;
+
+        BatchSummary build() {
+            return new BatchSummary(succeeded, failed, skipped, transactions, (System.nanoTime() - startNanos) / 1_000_000);
+        }
+    }
+}
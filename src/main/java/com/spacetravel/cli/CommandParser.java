@@ -1,41 +1,98 @@
 package com.spacetravel.cli;
 
-import com.spacetravel.dao.ClientDaoImpl;
-import com.spacetravel.dao.PlanetDaoImpl;
-import com.spacetravel.dao.TicketDaoImpl;
+import com.spacetravel.config.AppProperties;
+import com.spacetravel.config.CacheRegionStats;
+import com.spacetravel.config.HibernateUtil;
+import com.spacetravel.dao.DataGenerator;
+import com.spacetravel.dao.DeletionJobDao;
+import com.spacetravel.dao.DeletionJobDaoImpl;
+import com.spacetravel.dto.TicketSearch;
+import com.spacetravel.dto.TicketView;
 import com.spacetravel.entity.Client;
+import com.spacetravel.entity.DeletionJob;
 import com.spacetravel.entity.Planet;
 import com.spacetravel.entity.Ticket;
-
 import com.spacetravel.exception.ClientNotFoundException;
 import com.spacetravel.exception.DuplicatePlanetIdException;
 import com.spacetravel.exception.PlanetNotFoundException;
 import com.spacetravel.exception.TicketNotFoundException;
+import com.spacetravel.metrics.Metrics;
 import com.spacetravel.service.ClientCrudService;
+import com.spacetravel.service.DeletionJobService;
+import com.spacetravel.service.DeletionJobServiceImpl;
+import com.spacetravel.service.DeletionJobSettings;
 import com.spacetravel.service.PlanetCrudService;
+import com.spacetravel.service.Services;
 import com.spacetravel.service.TicketCrudService;
-import com.spacetravel.service.ClientCrudServiceImpl;
-import com.spacetravel.service.PlanetCrudServiceImpl;
-import com.spacetravel.service.TicketCrudServiceImpl;
 import com.spacetravel.util.CommandActions;
 import com.spacetravel.util.LoggerUtil;
+import org.hibernate.stat.Statistics;
 import org.slf4j.Logger;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+public class CommandParser implements AutoCloseable {
 
-public class CommandParser {
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int DEFAULT_SEARCH_LIMIT = 100;
+    private static final String BACKGROUND = "--background";
 
     private final ClientCrudService clientService;
     private final PlanetCrudService planetService;
     private final TicketCrudService ticketService;
+    private final DeletionJobService deletionJobs;
+    private final DataGenerator dataGenerator = new DataGenerator();
     private final Logger logger = LoggerUtil.getLogger(CommandParser.class);
 
     public CommandParser() {
-        this.clientService = new ClientCrudServiceImpl(new ClientDaoImpl(), new TicketDaoImpl());
-        this.planetService = new PlanetCrudServiceImpl(new PlanetDaoImpl(), new TicketDaoImpl());
-        this.ticketService = new TicketCrudServiceImpl(new TicketDaoImpl(), new PlanetDaoImpl());
+        Properties properties = AppProperties.load();
+        Services services = Services.create(properties);
+        this.clientService = services.clientService();
+        this.planetService = services.planetService();
+        this.ticketService = services.ticketService();
+        this.deletionJobs = new DeletionJobServiceImpl(
+                Metrics.instrument(DeletionJobDao.class, new DeletionJobDaoImpl(), "dao.deletion-job"),
+                services.clientDao(), services.planetCatalog(), DeletionJobSettings.from(properties));
+        int resumed = deletionJobs.resumeUnfinished();
+        if (resumed > 0) {
+            logger.info("Resumed {} unfinished deletion job(s). Type 'jobs' to follow them.", resumed);
+        }
+    }
+
+    public CommandParser(ClientCrudService clientService, PlanetCrudService planetService,
+                         TicketCrudService ticketService) {
+        this(clientService, planetService, ticketService, null);
+    }
+
+    /**
+     * @param deletionJobs runs {@code delete --background}; {@code null} disables background deletes
+     */
+    public CommandParser(ClientCrudService clientService, PlanetCrudService planetService,
+                         TicketCrudService ticketService, DeletionJobService deletionJobs) {
+        this.clientService = clientService;
+        this.planetService = planetService;
+        this.ticketService = ticketService;
+        this.deletionJobs = deletionJobs;
+    }
+
+    /**
+     * Stops background deletion jobs after their current chunk; they resume with the next parser.
+     */
+    @Override
+    public void close() {
+        if (deletionJobs != null) {
+            deletionJobs.close();
+        }
     }
 
     /**
@@ -75,6 +132,16 @@ public class CommandParser {
 
                 // Ticket commands
                 case "ticket" -> handleTicketCommand(action, args);
+
+                // Diagnostics
+                case "pool" -> handlePoolCommand();
+                case "cache" -> handleCacheCommand();
+                case "metrics" -> handleMetricsCommand();
+                case "stats" -> handleStatsCommand();
+                case "jobs" -> handleJobsCommand(args);
+
+                // Synthetic data
+                case "generate" -> handleGenerateCommand(args);
                 default -> {
                     logger.warn("Unknown command. Type 'help' for list.");
                     yield 1;
@@ -91,6 +158,7 @@ public class CommandParser {
             return switch (action) {
                 case CommandActions.CREATE -> handleClientCreate(args);
                 case CommandActions.LIST -> handleClientList();
+                case CommandActions.COUNT -> handleClientCount();
                 case CommandActions.GET -> handleClientGet(args);
                 case CommandActions.UPDATE -> handleClientUpdate(args);
                 case CommandActions.DELETE -> handleClientDelete(args);
@@ -135,6 +203,11 @@ public class CommandParser {
         return 0;
     }
 
+    private int handleClientCount() {
+        logger.info("Clients: {}", clientService.count());
+        return 0;
+    }
+
     private int handleClientGet(String[] args) {
         if (args.length != 3) {
             logger.warn("Invalid usage of command get: Please use command as client get <id>");
@@ -167,11 +240,15 @@ public class CommandParser {
     }
 
     private int handleClientDelete(String[] args) {
-        if (args.length != 3) {
-            logger.warn("Invalid usage of command delete: Please use command as client delete <id>");
+        boolean background = args.length == 4 && BACKGROUND.equalsIgnoreCase(args[3]);
+        if (args.length != 3 && !background) {
+            logger.warn("Invalid usage of command delete: Please use command as client delete <id> [--background]");
             return 1;
         }
         Long clientId = Long.parseLong(args[2]);
+        if (background) {
+            return startDeletionJob(() -> deletionJobs.deleteClientInBackground(clientId));
+        }
         clientService.delete(clientId);
         logger.info("Deleted client with ID: {}", clientId);
         return 0;
@@ -288,26 +365,46 @@ public class CommandParser {
     }
 
     private int handlePlanetDelete(String[] args) {
-        if (args.length != 3) {
-            logger.warn("Invalid usage of command delete: Please use command as planet delete <id>");
+        boolean background = args.length == 4 && BACKGROUND.equalsIgnoreCase(args[3]);
+        if (args.length != 3 && !background) {
+            logger.warn("Invalid usage of command delete: Please use command as planet delete <id> [--background]");
             return 1;
         }
 
         String planetIdDel = args[2];
+        if (background) {
+            return startDeletionJob(() -> deletionJobs.deletePlanetInBackground(planetIdDel));
+        }
         planetService.delete(planetIdDel);
         logger.info("Deleted planet with ID - {}", planetIdDel);
         return 0;
     }
 
+    private int startDeletionJob(Supplier<DeletionJob> submit) {
+        if (deletionJobs == null) {
+            logger.warn("Background deletion is not available here. Delete without --background.");
+            return 1;
+        }
+        DeletionJob job = submit.get();
+        logger.info("Deletion job {} started for {} {} ({} tickets). Type 'jobs {}' to follow it.",
+                job.getId(), job.getTargetType(), job.getTargetId(), job.getTicketsAtStart(), job.getId());
+        return 0;
+    }
+
 
     private int handleTicketCommand(String action, String[] args) {
         try {
             return switch (action) {
                 case CommandActions.CREATE -> handleTicketCreate(args);
                 case CommandActions.LIST -> handleTicketList(args);
+                case CommandActions.PAGE -> handleTicketPage(args);
+                case CommandActions.SEARCH -> handleTicketSearch(args);
+                case CommandActions.COUNT -> handleTicketCount(args);
                 case CommandActions.GET -> handleTicketGet(args);
                 case CommandActions.UPDATE_FROM -> handleTicketUpdateFrom(args);
                 case CommandActions.UPDATE_TO -> handleTicketUpdateTo(args);
+                case CommandActions.REROUTE_FROM -> handleTicketRerouteFrom(args);
+                case CommandActions.REROUTE_TO -> handleTicketRerouteTo(args);
                 case CommandActions.DELETE -> handleTicketDelete(args);
                 case CommandActions.DELETE_CLIENT -> handleTicketDeleteClient(args);
                 case CommandActions.DELETE_FROM -> handleTicketDeleteFrom(args);
@@ -320,7 +417,7 @@ public class CommandParser {
         } catch (IllegalArgumentException e) {
             logger.error("Ticket command error: {}", e.getMessage());
             return 1;
-        } catch (TicketNotFoundException e) {
+        } catch (TicketNotFoundException | ClientNotFoundException | PlanetNotFoundException e) {
             logger.warn("Ticket operation failed: {}", e.getMessage());
             return 1;
         } catch (Exception e) {
@@ -345,11 +442,7 @@ public class CommandParser {
             return 1;
         }
 
-        Client client = clientService.findById(clientId);
-        Planet fromPlanet = planetService.findById(fromPlanetId);
-        Planet toPlanet = planetService.findById(toPlanetId);
-
-        Ticket created = ticketService.create(new Ticket(client, fromPlanet, toPlanet));
+        Ticket created = ticketService.create(clientId, fromPlanetId, toPlanetId);
 
         logger.info("Created: Ticket {}: client={}, from={}, to={}, createdAt={}",
                 created.getId(), clientId, fromPlanetId, toPlanetId, created.getCreatedAt());
@@ -381,11 +474,12 @@ public class CommandParser {
     }
 
     private int listAllTickets() {
-        List<Ticket> all = ticketService.findAll();
-        if (all.isEmpty()) {
-            logger.warn("No tickets found.");
-        } else {
-            all.forEach(this::logTicket);
+        try (Stream<TicketView> all = ticketService.streamAllViews()) {
+            Iterator<TicketView> tickets = all.iterator();
+            if (!tickets.hasNext()) {
+                logger.warn("No tickets found.");
+            }
+            tickets.forEachRemaining(this::logTicket);
         }
         return 0;
     }
@@ -393,7 +487,7 @@ public class CommandParser {
     private boolean tryListTicketsByClientId(String arg) {
         try {
             Long clientId = Long.parseLong(arg);
-            List<Ticket> byClient = ticketService.findAllByClient(clientId);
+            List<TicketView> byClient = ticketService.findViewsByClient(clientId);
             if (byClient.isEmpty()) {
                 logger.warn("No tickets found for client {}", clientId);
             } else {
@@ -408,7 +502,7 @@ public class CommandParser {
     private boolean tryListTicketsByDate(String arg) {
         try {
             LocalDate date = LocalDate.parse(arg);
-            List<Ticket> byDate = ticketService.findAllByDate(date);
+            List<TicketView> byDate = ticketService.findViewsByDate(date);
             if (byDate.isEmpty()) {
                 logger.warn("No tickets found on date {}", arg);
             } else {
@@ -421,8 +515,9 @@ public class CommandParser {
     }
 
     private int listTicketsByPlanetId(String planetId) {
-        List<Ticket> from = ticketService.findAllByFromPlanet(planetId);
-        List<Ticket> to = ticketService.findAllByToPlanet(planetId);
+        List<TicketView> tickets = ticketService.search(TicketSearch.builder().planet(planetId).build());
+        List<TicketView> from = tickets.stream().filter(t -> planetId.equals(t.fromPlanetId())).toList();
+        List<TicketView> to = tickets.stream().filter(t -> !planetId.equals(t.fromPlanetId())).toList();
 
         boolean anyFound = false;
 
@@ -446,12 +541,112 @@ public class CommandParser {
         return 0;
     }
 
-    private void logTicket(Ticket t) {
-        System.out.println("Ticket " + t.getId() +
-                ": client=" + t.getClient().getId() +
-                ", from=" + t.getFromPlanet().getId() +
-                ", to=" + t.getToPlanet().getId() +
-                ", createdAt=" + t.getCreatedAt());
+    private int handleTicketPage(String[] args) {
+        if (args.length > 4) {
+            logger.warn("Invalid usage of command page: Please use ticket page [<after_id>] [<limit>]");
+            return 1;
+        }
+
+        Long afterId = args.length > 2 ? Long.parseLong(args[2]) : 0L;
+        int limit = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_PAGE_SIZE;
+
+        List<TicketView> page = ticketService.findViewPage(afterId, limit);
+        if (page.isEmpty()) {
+            logger.warn("No tickets found after ID {}", afterId);
+            return 0;
+        }
+
+        page.forEach(this::logTicket);
+        if (page.size() == limit) {
+            System.out.println("Next page: ticket page " + page.get(page.size() - 1).id() + " " + limit);
+        }
+        return 0;
+    }
+
+    private void logTicket(TicketView t) {
+        System.out.println("Ticket " + t.id() +
+                ": client=" + t.clientId() + " (" + t.clientName() + ")" +
+                ", from=" + t.fromPlanetId() + " (" + t.fromPlanetName() + ")" +
+                ", to=" + t.toPlanetId() + " (" + t.toPlanetName() + ")" +
+                ", createdAt=" + t.createdAt());
+    }
+
+    /**
+     * {@code ticket search [--client ID] [--from P] [--to P] [--planet P] [--since D] [--until D] [--sort S] [--limit N]}
+     */
+    private int handleTicketSearch(String[] args) {
+        String usage = "Usage: ticket search [--client <id>] [--from <planet_id>] [--to <planet_id>] [--planet <planet_id>] "
+                + "[--since YYYY-MM-DD] [--until YYYY-MM-DD] [--sort id|created|created-desc] [--limit N]";
+        TicketSearch.Builder search = TicketSearch.builder().limit(DEFAULT_SEARCH_LIMIT);
+        for (int i = 2; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                logger.warn(usage);
+                return 1;
+            }
+            String value = args[i + 1];
+            try {
+                switch (args[i].toLowerCase()) {
+                    case "--client" -> search.client(Long.parseLong(value));
+                    case "--from" -> search.from(value);
+                    case "--to" -> search.to(value);
+                    case "--planet" -> search.planet(value);
+                    case "--since" -> search.since(LocalDate.parse(value));
+                    case "--until" -> search.until(LocalDate.parse(value));
+                    case "--sort" -> search.sort(TicketSearch.Sort.valueOf(value.toUpperCase().replace('-', '_')));
+                    case "--limit" -> search.limit(Integer.parseInt(value));
+                    default -> {
+                        logger.warn(usage);
+                        return 1;
+                    }
+                }
+            } catch (DateTimeParseException e) {
+                logger.warn("Invalid date '{}'. Please use YYYY-MM-DD.", value);
+                return 1;
+            }
+        }
+
+        List<TicketView> found = ticketService.search(search.build());
+        if (found.isEmpty()) {
+            logger.warn("No tickets found.");
+        }
+        found.forEach(this::logTicket);
+        return 0;
+    }
+
+    /**
+     * {@code ticket count}, {@code ticket count client|from|to <id>} or {@code ticket count <from_date> [<to_date>]}.
+     * Counts with one {@code COUNT(*)} query instead of loading the tickets.
+     */
+    private int handleTicketCount(String[] args) {
+        if (args.length == 2) {
+            logger.info("Tickets: {}", ticketService.count());
+            return 0;
+        }
+        if (args.length > 4) {
+            logger.warn("Invalid usage of command count: Please use ticket count [client|from|to <id>] "
+                    + "or ticket count <from_date> [<to_date>]");
+            return 1;
+        }
+        String kind = args[2].toLowerCase();
+        if (args.length == 4 && (kind.equals("client") || kind.equals("from") || kind.equals("to"))) {
+            long count = switch (kind) {
+                case "client" -> ticketService.countByClient(Long.parseLong(args[3]));
+                case "from" -> ticketService.countByFromPlanet(args[3]);
+                default -> ticketService.countByToPlanet(args[3]);
+            };
+            logger.info("Tickets with {} {}: {}", kind, args[3], count);
+            return 0;
+        }
+        try {
+            LocalDate from = LocalDate.parse(args[2]);
+            LocalDate to = args.length == 4 ? LocalDate.parse(args[3]) : from;
+            logger.info("Tickets created {} to {}: {}", from, to, ticketService.countByDateRange(from, to));
+            return 0;
+        } catch (DateTimeParseException e) {
+            logger.warn("Invalid usage of command count: Please use ticket count [client|from|to <id>] "
+                    + "or ticket count <from_date> [<to_date>] (YYYY-MM-DD)");
+            return 1;
+        }
     }
 
     private int handleTicketGet(String[] args) {
@@ -479,18 +674,8 @@ public class CommandParser {
         Long ticketId = Long.parseLong(args[2]);
         String newFrom = args[3];
 
-        Ticket t = ticketService.findById(ticketId);
-        if (t.getToPlanet().getId().equals(newFrom)) {
-            logger.warn("Entered fromPlanet ID is identical to toPlanet ID.");
-            return 1;
-        }
-
-        Ticket t2 = ticketService.findById(ticketId);
-        if (t2.getFromPlanet().getId().equals(newFrom)) {
-            logger.warn("You entered the same from planet ID. Please enter different planet IDs.");
-            return 1;
-        }
-
+        // Not read first: the service rejects an unknown ticket, an unchanged fromPlanet or one equal to the
+        // ticket's toPlanet in the same unit of work as the update
         Ticket updated = ticketService.updateFromPlanet(ticketId, newFrom);
         logger.info("Updated ticket {} from planet to {}", updated.getId(), newFrom);
         return 0;
@@ -505,23 +690,47 @@ public class CommandParser {
         Long ticketId = Long.parseLong(args[2]);
         String newTo = args[3];
 
-        Ticket t = ticketService.findById(ticketId);
-        if (t.getFromPlanet().getId().equals(newTo)) {
-            logger.warn("Entered toPlanet ID is identical to fromPlanet ID.");
+        // Not read first: the service rejects an unknown ticket, an unchanged toPlanet or one equal to the
+        // ticket's fromPlanet in the same unit of work as the update
+        Ticket updated = ticketService.updateToPlanet(ticketId, newTo);
+        logger.info("Updated ticket {} to planet to {}", updated.getId(), newTo);
+        return 0;
+    }
+
+    private int handleTicketRerouteFrom(String[] args) {
+        if (args.length < 4) {
+            logger.warn("Invalid usage of command reroute-from: Please use ticket reroute-from <from_planet_id> <ticket_id>...");
             return 1;
         }
 
-        Ticket t2 = ticketService.findById(ticketId);
-        if (t2.getToPlanet().getId().equals(newTo)) {
-            logger.warn("You entered the same to planet ID. Please enter different planet IDs.");
+        String newFrom = args[2];
+        List<Long> ticketIds = parseIds(args, 3);
+        int updated = ticketService.rerouteFromPlanet(ticketIds, newFrom);
+        logger.info("Rerouted {} of {} tickets from planet {}", updated, ticketIds.size(), newFrom);
+        return 0;
+    }
+
+    private int handleTicketRerouteTo(String[] args) {
+        if (args.length < 4) {
+            logger.warn("Invalid usage of command reroute-to: Please use ticket reroute-to <to_planet_id> <ticket_id>...");
             return 1;
         }
 
-        Ticket updated = ticketService.updateToPlanet(ticketId, newTo);
-        logger.info("Updated ticket {} to planet to {}", updated.getId(), newTo);
+        String newTo = args[2];
+        List<Long> ticketIds = parseIds(args, 3);
+        int updated = ticketService.rerouteToPlanet(ticketIds, newTo);
+        logger.info("Rerouted {} of {} tickets to planet {}", updated, ticketIds.size(), newTo);
         return 0;
     }
 
+    private static List<Long> parseIds(String[] args, int from) {
+        List<Long> ids = new ArrayList<>(args.length - from);
+        for (int i = from; i < args.length; i++) {
+            ids.add(Long.parseLong(args[i]));
+        }
+        return ids;
+    }
+
     private int handleTicketDelete(String[] args) {
         if (args.length != 3) {
             logger.warn("Invalid usage of command delete: Please use ticket delete <ticket_id>");
@@ -541,8 +750,8 @@ public class CommandParser {
         }
 
         Long clientId = Long.parseLong(args[2]);
-        ticketService.deleteAllByClientId(clientId);
-        logger.info("Deleted all tickets for client {}", clientId);
+        int deleted = ticketService.deleteAllByClientId(clientId);
+        logger.info("Deleted {} tickets for client {}", deleted, clientId);
         return 0;
     }
 
@@ -552,8 +761,8 @@ public class CommandParser {
             return 1;
         }
 
-        ticketService.deleteAllByFromPlanetId(args[2]);
-        logger.info("Deleted all tickets from planet {}", args[2]);
+        int deleted = ticketService.deleteAllByFromPlanetId(args[2]);
+        logger.info("Deleted {} tickets from planet {}", deleted, args[2]);
         return 0;
     }
 
@@ -563,23 +772,144 @@ public class CommandParser {
             return 1;
         }
 
-        ticketService.deleteAllByToPlanetId(args[2]);
-        logger.info("Deleted all tickets to planet {}", args[2]);
+        int deleted = ticketService.deleteAllByToPlanetId(args[2]);
+        logger.info("Deleted {} tickets to planet {}", deleted, args[2]);
+        return 0;
+    }
+
+
+    private int handlePoolCommand() {
+        HibernateUtil.getPoolMetrics().ifPresentOrElse(
+                metrics -> System.out.println("Connection pool: " + metrics),
+                () -> logger.warn("Connection pool metrics are not available for the configured provider.")
+        );
+        return 0;
+    }
+
+    private int handleCacheCommand() {
+        List<CacheRegionStats> regions = HibernateUtil.getCacheStatistics();
+        if (regions.isEmpty()) {
+            logger.warn("Cache statistics are not available. Set cache.enabled=true and cache.statistics=true.");
+            return 0;
+        }
+        regions.forEach(region -> System.out.println("Cache " + region));
+        return 0;
+    }
+
+    /**
+     * {@code generate [--clients N] [--planets M] [--tickets K] [--days D] [--seed S]}
+     */
+    private int handleGenerateCommand(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 1; i < args.length; i += 2) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                logger.warn("Usage: generate [--clients N] [--planets M] [--tickets K] [--days D] [--seed S]");
+                return 1;
+            }
+            options.put(args[i].substring(2).toLowerCase(), args[i + 1]);
+        }
+
+        try {
+            DataGenerator.Spec spec = new DataGenerator.Spec(
+                    Integer.parseInt(options.getOrDefault("clients", "1000")),
+                    Integer.parseInt(options.getOrDefault("planets", "20")),
+                    Long.parseLong(options.getOrDefault("tickets", "100000")),
+                    Integer.parseInt(options.getOrDefault("days", "365")),
+                    LocalDate.now(),
+                    Long.parseLong(options.getOrDefault("seed", "42")));
+            dataGenerator.generate(spec).forEach(result -> logger.info("Generated {}", result));
+            return 0;
+        } catch (NumberFormatException e) {
+            logger.error("Invalid number in generate options: {}", e.getMessage());
+            return 1;
+        } catch (IllegalArgumentException e) {
+            logger.error("Generate command error: {}", e.getMessage());
+            return 1;
+        }
+    }
+
+    private int handleStatsCommand() {
+        Statistics statistics = HibernateUtil.getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            logger.warn("Statistics are disabled. Set stats.enabled=true.");
+            return 0;
+        }
+        System.out.printf("Sessions opened=%d, transactions=%d, queries=%d, entity loads=%d, "
+                        + "second-level cache hits=%d, misses=%d, slowest query=%d ms%n",
+                statistics.getSessionOpenCount(), statistics.getTransactionCount(), statistics.getQueryExecutionCount(),
+                statistics.getEntityLoadCount(), statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(), statistics.getQueryExecutionMaxTime());
+        HibernateUtil.getQueryStatistics().forEach(query -> System.out.println("Query " + query));
+        return 0;
+    }
+
+    /**
+     * {@code jobs} lists all deletion jobs, {@code jobs <id>} shows one.
+     */
+    private int handleJobsCommand(String[] args) {
+        if (deletionJobs == null) {
+            logger.warn("Background deletion jobs are not available here.");
+            return 1;
+        }
+        if (args.length > 2) {
+            logger.warn("Invalid usage of command jobs: Please use jobs [<job_id>]");
+            return 1;
+        }
+        if (args.length == 2) {
+            long jobId;
+            try {
+                jobId = Long.parseLong(args[1]);
+            } catch (NumberFormatException e) {
+                logger.error("Invalid job ID format: {}", args[1]);
+                return 1;
+            }
+            return deletionJobs.findById(jobId)
+                    .map(job -> {
+                        System.out.println("Job " + job);
+                        return 0;
+                    })
+                    .orElseGet(() -> {
+                        logger.warn("No deletion job with ID: {}", jobId);
+                        return 1;
+                    });
+        }
+        List<DeletionJob> jobs = deletionJobs.findAll();
+        if (jobs.isEmpty()) {
+            logger.info("No deletion jobs.");
+        }
+        jobs.forEach(job -> System.out.println("Job " + job));
         return 0;
     }
 
+    private int handleMetricsCommand() {
+        if (!Metrics.isEnabled()) {
+            logger.warn("Metrics are disabled. Set metrics.enabled=true.");
+            return 0;
+        }
+        Metrics.timers().forEach(timer -> System.out.println("Timer " + timer));
+        return 0;
+    }
 
     private void printHelp() {
         logger.info("""
             Commands:
              help                                                       - Show this help
              exit                                                       - Exit program
+             pool                                                       - Show connection pool metrics
+             cache                                                      - Show second-level cache hit/miss statistics
+             metrics                                                    - Show latency/row metrics per DAO and service method
+             stats                                                      - Show Hibernate statistics and per-query count/mean/p99/max
+             jobs [<job_id>]                                            - Show background deletion jobs and their progress
+             generate [--clients N] [--planets M] [--tickets K] [--days D] [--seed S]
+                                                                        - Load skewed synthetic data, report rows/s
             
              client create <name>                                       - Create new client
              client list                                                - List all clients
+             client count                                               - Count clients without loading them
              client get <id>                                            - Get client by ID
              client update <id> <new_name>                              - Update client by ID
              client delete <id>                                         - Delete client by ID
+             client delete <id> --background                            - Delete client and its tickets in chunks
             
              planet create <id> <name>                                  - Create new planet
              planet list                                                - List all planets
@@ -587,15 +917,25 @@ public class CommandParser {
              planet get <name>                                          - Get planet by Name
              planet update <id> <new_name>                              - Update planet by ID
              planet delete <id>                                         - Delete planet by ID
+             planet delete <id> --background                            - Delete planet and its tickets in chunks
             
              ticket create <client_id> <from_planet_id> <to_planet_id>  - Create new Ticket
              ticket list                                                - List all tickets
              ticket list <client_id>                                    - List all tickets with Client ID
              ticket list <planet_id>                                    - List all tickets with Planet ID
              ticket list <created_at> (YYYY-MM-DD)                      - List all ticket with certain date
+             ticket page [<after_id>] [<limit>]                         - List one page of tickets after ID
+             ticket search [--client <id>] [--from <planet_id>] [--to <planet_id>] [--planet <planet_id>]
+                           [--since YYYY-MM-DD] [--until YYYY-MM-DD] [--sort id|created|created-desc] [--limit N]
+                                                                        - Tickets matching all filters (--planet: two queries)
+             ticket count                                               - Count all tickets
+             ticket count client|from|to <id>                           - Count tickets of a client or planet
+             ticket count <from_date> [<to_date>] (YYYY-MM-DD)          - Count tickets created in a date range
              ticket get <ticket_id>                                     - Get ticket by Ticket ID
              ticket update-from <ticket_id> <new_from_planet_id>        - Update ticket's FromPlanet by ID
              ticket update-to <ticket_id> <new_to_planet_id>            - Update ticket's ToPlanet by ID
+             ticket reroute-from <from_planet_id> <ticket_id>...        - Update FromPlanet of many tickets
+             ticket reroute-to <to_planet_id> <ticket_id>...            - Update ToPlanet of many tickets
              ticket delete <ticket_id>                                  - Delete ticket by Ticket ID
              ticket delete-client <client_id>                           - Delete ticket by Client ID
              ticket delete-from <from_planet_id>                        - Delete ticket by FromPlanet ID
@@ -0,0 +1,66 @@
+package com.spacetravel.config;
+
+import com.spacetravel.exception.ConfigurationException;
+import com.spacetravel.util.LoggerUtil;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * Loads the application properties file named by the {@code config.file} system property
+ * ({@code application.properties} by default) and reads typed values from it.
+ */
+public final class AppProperties {
+    private static final Logger LOGGER = LoggerUtil.getLogger(AppProperties.class);
+
+    private AppProperties() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static Properties load() {
+        return load(System.getProperty("config.file", "application.properties"));
+    }
+
+    public static Properties load(String filename) {
+        LOGGER.info("Loading configuration from {}", filename);
+        try (InputStream input = AppProperties.class.getClassLoader().getResourceAsStream(filename)) {
+            if (input == null) {
+                throw new ConfigurationException("Properties file not found: " + filename);
+            }
+            Properties properties = new Properties();
+            properties.load(input);
+            return properties;
+        } catch (IOException e) {
+            throw new ConfigurationException("Failed to load properties from file: " + filename, e);
+        }
+    }
+
+    public static int getInt(Properties properties, String key, int defaultValue) {
+        long value = getLong(properties, key, defaultValue);
+        if (value > Integer.MAX_VALUE) {
+            throw new ConfigurationException("Property " + key + " is too large: " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Returns the non-negative number stored under {@code key}, or {@code defaultValue} when it is absent.
+     */
+    public static long getLong(Properties properties, String key, long defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            long parsed = Long.parseLong(value.trim());
+            if (parsed < 0) {
+                throw new ConfigurationException("Property " + key + " must not be negative: " + value);
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new ConfigurationException("Property " + key + " must be a number: " + value, e);
+        }
+    }
+}
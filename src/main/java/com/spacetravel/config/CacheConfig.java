@@ -0,0 +1,110 @@
+package com.spacetravel.config;
+
+import com.spacetravel.exception.ConfigurationException;
+import com.spacetravel.util.LoggerUtil;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.slf4j.Logger;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Second-level cache setup: builds a local Ehcache (JCache) manager with one region per cached
+ * entity/query and hands it to Hibernate. Regions are sized and expired with the {@code cache.*} keys.
+ */
+public final class CacheConfig {
+    private static final Logger LOGGER = LoggerUtil.getLogger(CacheConfig.class);
+
+    public static final String PLANET_REGION = "planet";
+    public static final String CLIENT_REGION = "client";
+    public static final String PLANET_BY_NAME_REGION = "planet-by-name";
+    public static final List<String> ENTITY_REGIONS = List.of(PLANET_REGION, CLIENT_REGION, PLANET_BY_NAME_REGION);
+
+    private static final String TIMESTAMPS_REGION = "default-update-timestamps-region";
+    private static final String ENABLED = "cache.enabled";
+
+    private static CacheManager cacheManager;
+
+    private CacheConfig() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static boolean isEnabled(Properties properties) {
+        return Boolean.parseBoolean(properties.getProperty(ENABLED, "false"));
+    }
+
+    /**
+     * Adds the Hibernate cache settings and a pre-configured {@link CacheManager} to the given properties.
+     * Does nothing when {@code cache.enabled} is not {@code true}.
+     */
+    public static void apply(Properties properties) {
+        if (!isEnabled(properties)) {
+            LOGGER.info("Second-level cache disabled.");
+            return;
+        }
+
+        CachingProvider provider = Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        cacheManager = provider.getCacheManager(provider.getDefaultURI(), CacheConfig.class.getClassLoader());
+
+        createRegion(properties, PLANET_REGION, 3600, 10_000);
+        createRegion(properties, CLIENT_REGION, 600, 10_000);
+        createRegion(properties, PLANET_BY_NAME_REGION, 3600, 1_000);
+        // Update timestamps must outlive every cached query result, so this region never expires.
+        createRegion(TIMESTAMPS_REGION, ExpiryPolicyBuilder.noExpiration(), 10_000);
+
+        properties.put("hibernate.cache.use_second_level_cache", "true");
+        properties.put("hibernate.cache.use_query_cache", "true");
+        properties.put("hibernate.cache.region.factory_class", "jcache");
+        properties.put("hibernate.javax.cache.cache_manager", cacheManager);
+        properties.put("hibernate.javax.cache.missing_cache_strategy", "create");
+        properties.putIfAbsent("hibernate.generate_statistics", properties.getProperty("cache.statistics", "false"));
+        LOGGER.info("Second-level cache enabled for regions {}", ENTITY_REGIONS);
+    }
+
+    public static void close() {
+        if (cacheManager != null && !cacheManager.isClosed()) {
+            cacheManager.close();
+        }
+    }
+
+    private static void createRegion(Properties properties, String region, long defaultTtlSeconds, long defaultMaxEntries) {
+        long ttlSeconds = getLong(properties, "cache." + region + ".ttl-seconds", defaultTtlSeconds);
+        long maxEntries = getLong(properties, "cache." + region + ".max-entries", defaultMaxEntries);
+        createRegion(region, ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(ttlSeconds)), maxEntries);
+    }
+
+    private static void createRegion(String region, ExpiryPolicy<Object, Object> expiry, long maxEntries) {
+        if (cacheManager.getCache(region) != null) {
+            return;
+        }
+        cacheManager.createCache(region, Eh107Configuration.fromEhcacheCacheConfiguration(
+                CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                                Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                        .withExpiry(expiry)));
+    }
+
+    private static long getLong(Properties properties, String key, long defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            long parsed = Long.parseLong(value.trim());
+            if (parsed <= 0) {
+                throw new ConfigurationException("Property " + key + " must be a positive number: " + value);
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new ConfigurationException("Property " + key + " must be a number: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.spacetravel.config;
+
+import org.hibernate.stat.CacheRegionStatistics;
+
+public record CacheRegionStats(String region, long hits, long misses, long puts, long entries) {
+
+    static CacheRegionStats of(String region, CacheRegionStatistics statistics) {
+        if (statistics == null) {
+            return new CacheRegionStats(region, 0, 0, 0, 0);
+        }
+        return new CacheRegionStats(
+                region,
+                statistics.getHitCount(),
+                statistics.getMissCount(),
+                statistics.getPutCount(),
+                Math.max(statistics.getElementCountInMemory(), 0)
+        );
+    }
+
+    public double hitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: hits=%d, misses=%d, puts=%d, entries=%d, hit ratio=%.1f%%",
+                region, hits, misses, puts, entries, hitRatio() * 100);
+    }
+}
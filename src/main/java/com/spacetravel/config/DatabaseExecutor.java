@@ -0,0 +1,85 @@
+package com.spacetravel.config;
+
+import com.spacetravel.util.LoggerUtil;
+import org.slf4j.Logger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Runs blocking DAO/service work off the caller's thread, one virtual thread per task by default.
+ * <p>
+ * A fair semaphore sized to the connection pool sits in front of JDBC: tasks beyond that limit park
+ * cheaply on the semaphore instead of piling up in the pool's acquire queue and timing out.
+ */
+public class DatabaseExecutor implements AutoCloseable {
+    private static final Logger LOGGER = LoggerUtil.getLogger(DatabaseExecutor.class);
+    private static final int DEFAULT_MAX_CONCURRENCY = 10;
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+
+    public DatabaseExecutor() {
+        this(HibernateUtil.getPoolMetrics().map(PoolMetrics::maxSize).orElse(DEFAULT_MAX_CONCURRENCY));
+    }
+
+    public DatabaseExecutor(int maxConcurrency) {
+        this(Executors.newVirtualThreadPerTaskExecutor(), maxConcurrency);
+    }
+
+    public DatabaseExecutor(ExecutorService executor, int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be a positive number");
+        }
+        this.executor = executor;
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        LOGGER.info("Database executor started with {} permits", maxConcurrency);
+    }
+
+    public <T> CompletableFuture<T> supply(Supplier<T> work) {
+        return CompletableFuture.supplyAsync(() -> withPermit(work), executor);
+    }
+
+    public CompletableFuture<Void> run(Runnable work) {
+        return supply(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    private <T> T withPermit(Supplier<T> work) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a database permit", e);
+        }
+        try {
+            return work.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Stops accepting tasks and waits for the submitted ones to finish.
+     */
+    @Override
+    public void close() {
+        executor.close();
+        LOGGER.info("Database executor stopped.");
+    }
+}
@@ -1,20 +1,29 @@
 package com.spacetravel.config;
 
 import com.spacetravel.entity.Client;
+import com.spacetravel.entity.DeletionJob;
 import com.spacetravel.entity.Planet;
 import com.spacetravel.entity.Ticket;
 import com.spacetravel.exception.ConfigurationException;
 import com.spacetravel.util.LoggerUtil;
 import org.hibernate.SessionFactory;
 import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
 import org.slf4j.Logger;
 
-import java.io.IOException;
-import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.Properties;
 
 public class HibernateUtil {
     private static final Logger LOGGER = LoggerUtil.getLogger(HibernateUtil.class);
+    private static final String CONNECTION_PROVIDER = "hibernate.connection.provider_class";
+    private static final String SESSION_CONTEXT = "hibernate.current_session_context_class";
+    private static final int DEFAULT_BATCH_SIZE = 50;
+    private static final int DEFAULT_FETCH_SIZE = 500;
     private static final SessionFactory SESSION_FACTORY = buildSessionFactory();
 
     private HibernateUtil() {
@@ -26,14 +35,19 @@ public class HibernateUtil {
 
         try {
             String propertiesFile = System.getProperty("config.file", "application.properties");
-            Properties properties = loadProperties(propertiesFile);
-
+            Properties properties = AppProperties.load(propertiesFile);
+            properties.putIfAbsent(CONNECTION_PROVIDER, PooledConnectionProvider.class.getName());
+            // TransactionTemplate binds units of work to the calling thread
+            properties.putIfAbsent(SESSION_CONTEXT, "thread");
+            CacheConfig.apply(properties);
+            StatisticsConfig.apply(properties);
 
             Configuration configuration = new Configuration();
             configuration.setProperties(properties);
             configuration.addAnnotatedClass(Client.class);
             configuration.addAnnotatedClass(Planet.class);
             configuration.addAnnotatedClass(Ticket.class);
+            configuration.addAnnotatedClass(DeletionJob.class);
 
             LOGGER.info("Hibernate SessionFactory created successfully.");
             return configuration.buildSessionFactory();
@@ -46,28 +60,64 @@ public class HibernateUtil {
         }
     }
 
-    private static Properties loadProperties(String filename) {
-        LOGGER.info("Loading Hibernate configuration from {}", filename);
-        try (InputStream input = HibernateUtil.class.getClassLoader().getResourceAsStream(filename)) {
-            if (input == null) {
-                throw new ConfigurationException("Properties file not found: " + filename);
-            }
-            Properties properties = new Properties();
-            properties.load(input);
-            return properties;
-        } catch (IOException e) {
-            throw new ConfigurationException("Failed to load properties from file: " + filename, e);
+    public static SessionFactory getSessionFactory() {
+        return SESSION_FACTORY;
+    }
+
+    public static int getJdbcBatchSize() {
+        int batchSize = SESSION_FACTORY.getSessionFactoryOptions().getJdbcBatchSize();
+        return batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+    }
+
+    public static int getJdbcFetchSize() {
+        Integer fetchSize = SESSION_FACTORY.getSessionFactoryOptions().getJdbcFetchSize();
+        return fetchSize != null && fetchSize > 0 ? fetchSize : DEFAULT_FETCH_SIZE;
+    }
+
+    public static Optional<PoolMetrics> getPoolMetrics() {
+        ConnectionProvider provider = SESSION_FACTORY.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(ConnectionProvider.class);
+        if (provider == null || !provider.isUnwrappableAs(PooledConnectionProvider.class)) {
+            return Optional.empty();
+        }
+        return Optional.of(provider.unwrap(PooledConnectionProvider.class).getMetrics());
+    }
+
+    /**
+     * Hit/miss/put counters of the second-level cache regions. Empty when the cache or statistics are disabled.
+     */
+    public static List<CacheRegionStats> getCacheStatistics() {
+        Statistics statistics = SESSION_FACTORY.getStatistics();
+        if (!SESSION_FACTORY.getSessionFactoryOptions().isSecondLevelCacheEnabled() || !statistics.isStatisticsEnabled()) {
+            return List.of();
         }
+        List<CacheRegionStats> regions = new ArrayList<>();
+        CacheConfig.ENTITY_REGIONS.forEach(region ->
+                regions.add(CacheRegionStats.of(region, statistics.getDomainDataRegionStatistics(region))));
+        return regions;
     }
 
+    /**
+     * Per-query counts and latencies, most expensive first. Empty unless {@code stats.enabled=true}.
+     */
+    public static List<QueryStats> getQueryStatistics() {
+        Statistics statistics = SESSION_FACTORY.getStatistics();
+        if (!(statistics instanceof QueryStatistics queryStatistics) || !statistics.isStatisticsEnabled()) {
+            return List.of();
+        }
+        return queryStatistics.getQueryStats();
+    }
 
-    public static SessionFactory getSessionFactory() {
-        return SESSION_FACTORY;
+    public static Statistics getStatistics() {
+        return SESSION_FACTORY.getStatistics();
     }
 
     public static void shutdown() {
         LOGGER.info("Shutting down Hibernate SessionFactory...");
+        getPoolMetrics().ifPresent(metrics -> LOGGER.info("Connection pool at shutdown: {}", metrics));
         getSessionFactory().close();
+        CacheConfig.close();
         LOGGER.info("SessionFactory shutdown complete.");
     }
 }
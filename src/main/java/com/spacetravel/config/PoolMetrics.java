@@ -0,0 +1,10 @@
+package com.spacetravel.config;
+
+public record PoolMetrics(int active, int idle, int waiting, int total, int maxSize) {
+
+    @Override
+    public String toString() {
+        return "active=" + active + ", idle=" + idle + ", waiting=" + waiting
+                + ", total=" + total + ", max=" + maxSize;
+    }
+}
@@ -0,0 +1,153 @@
+package com.spacetravel.config;
+
+import com.spacetravel.exception.ConfigurationException;
+import com.spacetravel.util.LoggerUtil;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.Stoppable;
+import org.slf4j.Logger;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * Hibernate {@link ConnectionProvider} backed by a HikariCP pool.
+ * Pool sizing and timeouts are read from the {@code pool.*} keys of the properties file.
+ */
+public class PooledConnectionProvider implements ConnectionProvider, Configurable, Stoppable {
+    private static final Logger LOGGER = LoggerUtil.getLogger(PooledConnectionProvider.class);
+
+    public static final String MIN_IDLE = "pool.min-idle";
+    public static final String MAX_SIZE = "pool.max-size";
+    public static final String ACQUIRE_TIMEOUT_MS = "pool.acquire-timeout-ms";
+    public static final String IDLE_TIMEOUT_MS = "pool.idle-timeout-ms";
+    public static final String MAX_LIFETIME_MS = "pool.max-lifetime-ms";
+    public static final String LEAK_DETECTION_THRESHOLD_MS = "pool.leak-detection-threshold-ms";
+
+    private HikariDataSource dataSource;
+
+    @Override
+    public void configure(Map<String, Object> settings) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("spacetravel-pool");
+        config.setJdbcUrl(requireString(settings, "hibernate.connection.url"));
+        config.setUsername(getString(settings, "hibernate.connection.username", "sa"));
+        config.setPassword(getString(settings, "hibernate.connection.password", ""));
+
+        String driverClass = getString(settings, "hibernate.connection.driver_class", null);
+        if (driverClass != null) {
+            config.setDriverClassName(driverClass);
+        }
+
+        int maxSize = getInt(settings, MAX_SIZE, 10);
+        int minIdle = getInt(settings, MIN_IDLE, 2);
+        if (minIdle > maxSize) {
+            throw new ConfigurationException(MIN_IDLE + " (" + minIdle + ") must not exceed " + MAX_SIZE + " (" + maxSize + ")");
+        }
+
+        config.setMaximumPoolSize(maxSize);
+        config.setMinimumIdle(minIdle);
+        config.setConnectionTimeout(getLong(settings, ACQUIRE_TIMEOUT_MS, 30_000L));
+        config.setIdleTimeout(getLong(settings, IDLE_TIMEOUT_MS, 600_000L));
+        config.setMaxLifetime(getLong(settings, MAX_LIFETIME_MS, 1_800_000L));
+        config.setLeakDetectionThreshold(getLong(settings, LEAK_DETECTION_THRESHOLD_MS, 0L));
+        config.setAutoCommit(false);
+
+        LOGGER.info("Starting connection pool (min idle = {}, max size = {})", minIdle, maxSize);
+        dataSource = new HikariDataSource(config);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    @Override
+    public void closeConnection(Connection connection) throws SQLException {
+        connection.close();
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return false;
+    }
+
+    @Override
+    public boolean isUnwrappableAs(Class<?> unwrapType) {
+        return unwrapType.isAssignableFrom(getClass())
+                || unwrapType.isAssignableFrom(HikariDataSource.class)
+                || DataSource.class.isAssignableFrom(unwrapType);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> unwrapType) {
+        if (unwrapType.isAssignableFrom(getClass())) {
+            return (T) this;
+        }
+        if (unwrapType.isAssignableFrom(HikariDataSource.class) || DataSource.class.isAssignableFrom(unwrapType)) {
+            return (T) dataSource;
+        }
+        throw new IllegalArgumentException("Cannot unwrap connection provider as " + unwrapType.getName());
+    }
+
+    @Override
+    public void stop() {
+        if (dataSource != null && !dataSource.isClosed()) {
+            LOGGER.info("Closing connection pool...");
+            dataSource.close();
+        }
+    }
+
+    public PoolMetrics getMetrics() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return new PoolMetrics(0, 0, 0, 0, dataSource.getMaximumPoolSize());
+        }
+        return new PoolMetrics(
+                pool.getActiveConnections(),
+                pool.getIdleConnections(),
+                pool.getThreadsAwaitingConnection(),
+                pool.getTotalConnections(),
+                dataSource.getMaximumPoolSize()
+        );
+    }
+
+    private static String requireString(Map<String, Object> settings, String key) {
+        String value = getString(settings, key, null);
+        if (value == null || value.isBlank()) {
+            throw new ConfigurationException("Missing required property: " + key);
+        }
+        return value;
+    }
+
+    private static String getString(Map<String, Object> settings, String key, String defaultValue) {
+        Object value = settings.get(key);
+        return value == null ? defaultValue : value.toString().trim();
+    }
+
+    private static int getInt(Map<String, Object> settings, String key, int defaultValue) {
+        return (int) getLong(settings, key, defaultValue);
+    }
+
+    private static long getLong(Map<String, Object> settings, String key, long defaultValue) {
+        String value = getString(settings, key, null);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            long parsed = Long.parseLong(value);
+            if (parsed < 0) {
+                throw new ConfigurationException("Property " + key + " must not be negative: " + value);
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new ConfigurationException("Property " + key + " must be a number: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.spacetravel.config;
+
+import com.spacetravel.metrics.Timer;
+import com.spacetravel.util.LoggerUtil;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+import org.slf4j.Logger;
+
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Hibernate statistics that additionally keep a latency histogram per query string and log queries slower
+ * than the configured threshold together with their parameter names and row count.
+ */
+public class QueryStatistics extends StatisticsImpl {
+    private static final Logger LOGGER = LoggerUtil.getLogger(QueryStatistics.class);
+    private static final Pattern PARAMETER = Pattern.compile(":(\\w+)|\\?(\\d*)");
+
+    private final long slowQueryThresholdMillis;
+    private final ConcurrentMap<String, Timer> queries = new ConcurrentHashMap<>();
+
+    public QueryStatistics(SessionFactoryImplementor sessionFactory, long slowQueryThresholdMillis) {
+        super(sessionFactory);
+        this.slowQueryThresholdMillis = slowQueryThresholdMillis;
+    }
+
+    @Override
+    public void queryExecuted(String hql, int rows, long time) {
+        super.queryExecuted(hql, rows, time);
+        if (hql == null || !isStatisticsEnabled()) {
+            return;
+        }
+        queries.computeIfAbsent(hql, Timer::new).record(TimeUnit.MILLISECONDS.toNanos(time), rows, false);
+        if (time >= slowQueryThresholdMillis) {
+            LOGGER.warn("Slow query: {} ms, {} rows, parameters {}: {}", time, rows, parameterNames(hql), hql);
+        }
+    }
+
+    /**
+     * Per-query aggregates, most expensive (count x mean) first.
+     */
+    public List<QueryStats> getQueryStats() {
+        return queries.entrySet().stream()
+                .map(entry -> QueryStats.of(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingDouble(QueryStats::totalMillis).reversed())
+                .toList();
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        queries.clear();
+    }
+
+    static Set<String> parameterNames(String query) {
+        Set<String> names = new LinkedHashSet<>();
+        Matcher matcher = PARAMETER.matcher(query);
+        while (matcher.find()) {
+            names.add(matcher.group(1) != null ? matcher.group(1) : "?" + matcher.group(2));
+        }
+        return names;
+    }
+}
@@ -0,0 +1,30 @@
+package com.spacetravel.config;
+
+import com.spacetravel.metrics.Timer;
+
+/**
+ * Aggregated executions of one HQL/SQL query string. Times are in milliseconds.
+ */
+public record QueryStats(String query, long count, long rows, double meanMillis, long p99Millis, long maxMillis) {
+
+    static QueryStats of(String query, Timer timer) {
+        return new QueryStats(
+                query,
+                timer.getCount(),
+                timer.getRows(),
+                timer.getMeanMicros() / 1000.0,
+                timer.getP99Micros() / 1000,
+                timer.getMaxMicros() / 1000
+        );
+    }
+
+    public double totalMillis() {
+        return meanMillis * count;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, rows=%d, mean=%.1f ms, p99=%d ms, max=%d ms: %s",
+                count, rows, meanMillis, p99Millis, maxMillis, query);
+    }
+}
@@ -0,0 +1,42 @@
+package com.spacetravel.config;
+
+import com.spacetravel.util.LoggerUtil;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.slf4j.Logger;
+
+import java.util.Properties;
+
+/**
+ * Statistics mode ({@code stats.enabled=true}): turns off SQL echo and enables Hibernate statistics backed by
+ * {@link QueryStatistics}, which logs queries slower than {@code stats.slow-query-threshold-ms}.
+ */
+public final class StatisticsConfig {
+    private static final Logger LOGGER = LoggerUtil.getLogger(StatisticsConfig.class);
+
+    public static final String ENABLED = "stats.enabled";
+    public static final String SLOW_QUERY_THRESHOLD_MS = "stats.slow-query-threshold-ms";
+
+    private static final long DEFAULT_SLOW_QUERY_THRESHOLD_MS = 200;
+
+    private StatisticsConfig() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static boolean isEnabled(Properties properties) {
+        return Boolean.parseBoolean(properties.getProperty(ENABLED, "false"));
+    }
+
+    public static void apply(Properties properties) {
+        if (!isEnabled(properties)) {
+            return;
+        }
+        long threshold = AppProperties.getLong(properties, SLOW_QUERY_THRESHOLD_MS, DEFAULT_SLOW_QUERY_THRESHOLD_MS);
+
+        properties.put("hibernate.show_sql", "false");
+        properties.put("hibernate.format_sql", "false");
+        properties.put("hibernate.generate_statistics", "true");
+        properties.put("hibernate.stats.factory",
+                (StatisticsFactory) sessionFactory -> new QueryStatistics(sessionFactory, threshold));
+        LOGGER.info("Statistics enabled, SQL echo disabled, slow query threshold {} ms", threshold);
+    }
+}
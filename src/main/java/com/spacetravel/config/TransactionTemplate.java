@@ -0,0 +1,130 @@
+package com.spacetravel.config;
+
+import com.spacetravel.exception.DataProcessingException;
+import com.spacetravel.metrics.Metrics;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs work in a Hibernate transaction bound to the current thread
+ * ({@code hibernate.current_session_context_class=thread}).
+ * <p>
+ * The outermost call begins the transaction and commits or rolls it back; calls nested on the same thread
+ * join it, so services can compose several DAO calls into one atomic unit of work. A failure in a nested
+ * call marks the whole unit rollback-only. Read-only units load entities without dirty-checking snapshots
+ * and never flush. The session is closed when the outermost unit completes, so returned entities are detached.
+ */
+public class TransactionTemplate {
+
+    public static final String SESSION_TIMER = "session.open";
+    public static final String COMMIT_TIMER = "transaction.commit";
+
+    private final SessionFactory sessionFactory;
+
+    public TransactionTemplate() {
+        this(HibernateUtil.getSessionFactory());
+    }
+
+    public TransactionTemplate(SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+    }
+
+    public <T> T execute(Function<Session, T> work) {
+        return run(work, false);
+    }
+
+    public void executeWithoutResult(Consumer<Session> work) {
+        run(session -> {
+            work.accept(session);
+            return null;
+        }, false);
+    }
+
+    public <T> T executeReadOnly(Function<Session, T> work) {
+        return run(work, true);
+    }
+
+    private <T> T run(Function<Session, T> work, boolean readOnly) {
+        Session session = sessionFactory.getCurrentSession();
+        Transaction tx = session.getTransaction();
+        if (tx.isActive()) {
+            return join(session, tx, work, readOnly);
+        }
+
+        long sessionStart = System.nanoTime();
+        tx.begin();
+        T result;
+        try {
+            if (readOnly) {
+                session.setDefaultReadOnly(true);
+                session.setHibernateFlushMode(FlushMode.MANUAL);
+            }
+            result = work.apply(session);
+        } catch (RuntimeException | Error e) {
+            rollback(tx, e);
+            recordSession(sessionStart, true);
+            throw e;
+        }
+
+        if (tx.getRollbackOnly()) {
+            tx.rollback();
+            recordSession(sessionStart, true);
+            throw new DataProcessingException("Transaction rolled back: a nested unit of work failed");
+        }
+        long commitStart = System.nanoTime();
+        try {
+            tx.commit();
+        } catch (RuntimeException e) {
+            rollback(tx, e);
+            recordCommit(commitStart, true);
+            recordSession(sessionStart, true);
+            throw e;
+        }
+        recordCommit(commitStart, false);
+        recordSession(sessionStart, false);
+        return result;
+    }
+
+    /**
+     * Time from beginning the outermost unit until its session is closed by commit or rollback.
+     */
+    private static void recordSession(long startNanos, boolean failed) {
+        if (Metrics.isEnabled()) {
+            Metrics.timer(SESSION_TIMER).record(System.nanoTime() - startNanos, 0, failed);
+        }
+    }
+
+    private static void recordCommit(long startNanos, boolean failed) {
+        if (Metrics.isEnabled()) {
+            Metrics.timer(COMMIT_TIMER).record(System.nanoTime() - startNanos, 0, failed);
+        }
+    }
+
+    private static <T> T join(Session session, Transaction tx, Function<Session, T> work, boolean readOnly) {
+        if (!readOnly && session.isDefaultReadOnly()) {
+            throw new IllegalStateException("Cannot run a read-write unit of work inside a read-only one");
+        }
+        try {
+            return work.apply(session);
+        } catch (RuntimeException | Error e) {
+            tx.setRollbackOnly();
+            throw e;
+        }
+    }
+
+    private static void rollback(Transaction tx, Throwable cause) {
+        if (!tx.getStatus().canRollback()) {
+            return;
+        }
+        try {
+            tx.rollback();
+        } catch (RuntimeException rollbackFailure) {
+            cause.addSuppressed(rollbackFailure);
+        }
+    }
+}
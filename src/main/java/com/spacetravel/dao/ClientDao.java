@@ -8,6 +8,9 @@ public interface ClientDao {
     Client save(Client client);
     Optional<Client> findById(Long id);
     List<Client> findAll();
+    boolean existsById(Long id);
+    long count();
     void delete(Client client);
+    int deleteById(Long id);
     Client update(Client client);
 }
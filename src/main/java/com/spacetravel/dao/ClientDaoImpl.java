@@ -1,11 +1,9 @@
 package com.spacetravel.dao;
 
-import com.spacetravel.config.HibernateUtil;
+import com.spacetravel.config.TransactionTemplate;
 import com.spacetravel.entity.Client;
 import com.spacetravel.exception.DataProcessingException;
 import com.spacetravel.util.LoggerUtil;
-import org.hibernate.Session;
-import org.hibernate.Transaction;
 import org.slf4j.Logger;
 
 import java.util.List;
@@ -14,64 +12,89 @@ import java.util.Optional;
 public class ClientDaoImpl implements ClientDao {
     private static final Logger LOGGER = LoggerUtil.getLogger(ClientDaoImpl.class);
 
+    private final TransactionTemplate transactions = new TransactionTemplate();
+
     public Client save(Client client) {
-        Transaction tx = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            tx = session.beginTransaction();
-            session.persist(client);
-            tx.commit();
+        try {
+            transactions.executeWithoutResult(session -> session.persist(client));
             LOGGER.info("Client saved: {}", client.getName());
             return client;
         } catch (Exception e) {
-            if (tx != null) {
-                tx.rollback();
-            }
             String msg = "Error saving client: " + client.getName();
             throw new DataProcessingException(msg, e);
         }
     }
 
     public Optional<Client> findById(Long id) {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            Client client = session.get(Client.class, id);
-            return Optional.ofNullable(client);
-        }
+        return transactions.executeReadOnly(session -> Optional.ofNullable(session.get(Client.class, id)));
     }
 
     public List<Client> findAll() {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            return session.createQuery("from Client", Client.class).list();
+        return transactions.executeReadOnly(session -> session.createQuery("from Client", Client.class).list());
+    }
+
+    /**
+     * Probes the primary key index without loading the client.
+     */
+    public boolean existsById(Long id) {
+        try {
+            return transactions.executeReadOnly(session -> !session.createQuery(
+                            "SELECT 1 FROM Client c WHERE c.id = :id", Integer.class)
+                    .setParameter("id", id)
+                    .setMaxResults(1)
+                    .list()
+                    .isEmpty());
+        } catch (Exception e) {
+            String msg = "Error checking client with id: " + id;
+            throw new DataProcessingException(msg, e);
+        }
+    }
+
+    public long count() {
+        try {
+            return transactions.executeReadOnly(session ->
+                    session.createQuery("SELECT COUNT(*) FROM Client", Long.class).getSingleResult());
+        } catch (Exception e) {
+            throw new DataProcessingException("Error counting clients", e);
         }
     }
 
     public void delete(Client client) {
-        Transaction tx = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            tx = session.beginTransaction();
-            session.remove(client);
-            tx.commit();
+        try {
+            transactions.executeWithoutResult(session -> session.remove(session.contains(client)
+                    ? client
+                    : session.getReference(Client.class, client.getId())));
             LOGGER.info("Client deleted: {}", client.getName());
         } catch (Exception e) {
-            if (tx != null) {
-                tx.rollback();
-            }
             String msg = "Error deleting client: " + client.getName();
             throw new DataProcessingException(msg, e);
         }
     }
 
+    /**
+     * Deletes the client and, through the ON DELETE CASCADE foreign keys, all of its tickets with one statement.
+     * Returns the number of client rows deleted, 0 when there was no such client.
+     */
+    public int deleteById(Long id) {
+        try {
+            int deleted = transactions.execute(session ->
+                    session.createMutationQuery("DELETE FROM Client WHERE id = :id")
+                            .setParameter("id", id)
+                            .executeUpdate());
+            LOGGER.info("Client {} deleted: {} row(s)", id, deleted);
+            return deleted;
+        } catch (Exception e) {
+            String msg = "Error deleting client with id: " + id;
+            throw new DataProcessingException(msg, e);
+        }
+    }
+
     public Client update(Client client) {
-        Transaction tx = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            tx = session.beginTransaction();
-            Client merged = session.merge(client);
-            tx.commit();
+        try {
+            Client merged = transactions.execute(session -> session.merge(client));
             LOGGER.info("Client updated: {}", merged.getName());
             return merged;
         } catch (Exception e) {
-            if (tx != null) {
-                tx.rollback();
-            }
             String msg = "Error updating client: " + client.getName();
             throw new DataProcessingException(msg, e);
         }
@@ -0,0 +1,254 @@
+package com.spacetravel.dao;
+
+import com.spacetravel.config.HibernateUtil;
+import com.spacetravel.config.TransactionTemplate;
+import com.spacetravel.exception.DataProcessingException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Loads synthetic clients, planets and tickets with JDBC batches, committing every {@link #CHUNK_SIZE} rows.
+ * <p>
+ * Distributions are skewed the way real bookings are: a few clients buy most tickets, a few routes carry most
+ * traffic and departures peak in the morning and the evening. Tickets reference the clients and planets
+ * generated in the same run, or all existing ones when the run creates none. Ids are reserved from the
+ * sequences up front, so the generator must not run while the application is inserting rows.
+ */
+public class DataGenerator {
+
+    public static final int CHUNK_SIZE = 50_000;
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final String[] FIRST_NAMES = {"Alice", "Bob", "Charlie", "Diana", "Ethan", "Fiona", "George",
+            "Hannah", "Ivan", "Julia", "Kira", "Leo", "Maya", "Nikolai", "Olga", "Pavel", "Quinn", "Rosa"};
+    private static final String[] LAST_NAMES = {"Johnson", "Smith", "Brown", "Prince", "Hunt", "Gallagher",
+            "Martin", "Baker", "Petrov", "Roberts", "Kowalski", "Novak", "Garcia", "Tanaka", "Okafor", "Larsen"};
+
+    private final TransactionTemplate transactions = new TransactionTemplate();
+
+    /**
+     * What to generate. Tickets are spread over the {@code days} days ending with {@code lastDay}.
+     */
+    public record Spec(int clients, int planets, long tickets, int days, LocalDate lastDay, long seed) {
+        public Spec {
+            if (clients < 0 || planets < 0 || tickets < 0) {
+                throw new IllegalArgumentException("Row counts must not be negative");
+            }
+            if (days < 1) {
+                throw new IllegalArgumentException("Days must be at least 1");
+            }
+            if (planets > 9_999_999) {
+                throw new IllegalArgumentException("At most 9999999 planets can be generated");
+            }
+        }
+    }
+
+    /**
+     * Rows loaded into one table and how long it took.
+     */
+    public record Result(String table, long rows, long elapsedMillis) {
+        public double rowsPerSecond() {
+            return rows * 1000.0 / Math.max(elapsedMillis, 1);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d rows in %d ms (%.0f rows/s)", table, rows, elapsedMillis, rowsPerSecond());
+        }
+    }
+
+    public List<Result> generate(Spec spec) {
+        Random random = new Random(spec.seed());
+        List<Result> results = new ArrayList<>();
+        try {
+            long[] clientIds;
+            if (spec.clients() > 0) {
+                long start = System.nanoTime();
+                clientIds = insertClients(spec.clients(), random);
+                results.add(new Result("client", spec.clients(), millisSince(start)));
+            } else {
+                clientIds = selectClientIds();
+            }
+
+            String[] planetIds;
+            if (spec.planets() > 0) {
+                long start = System.nanoTime();
+                planetIds = insertPlanets(spec.planets());
+                results.add(new Result("planet", spec.planets(), millisSince(start)));
+            } else {
+                planetIds = selectPlanetIds();
+            }
+
+            if (spec.tickets() > 0) {
+                if (clientIds.length == 0 || planetIds.length < 2) {
+                    throw new IllegalArgumentException("Tickets need at least one client and two planets");
+                }
+                long start = System.nanoTime();
+                insertTickets(spec, clientIds, planetIds, random);
+                results.add(new Result("ticket", spec.tickets(), millisSince(start)));
+            }
+        } finally {
+            // Rows were written behind Hibernate's back, so cached entities and queries may be stale
+            HibernateUtil.getSessionFactory().getCache().evictAllRegions();
+        }
+        return results;
+    }
+
+    private long[] insertClients(int count, Random random) {
+        long firstId = reserveIds("client", "client_seq", count);
+        String sql = "INSERT INTO client (id, name) VALUES (?, ?)";
+        insertInChunks(sql, count, (statement, row) -> {
+            statement.setLong(1, firstId + row);
+            statement.setString(2, FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + (firstId + row));
+        });
+        long[] ids = new long[count];
+        Arrays.setAll(ids, i -> firstId + i);
+        return ids;
+    }
+
+    private String[] insertPlanets(int count) {
+        Set<String> existing = new HashSet<>(Arrays.asList(selectPlanetIds()));
+        String[] ids = new String[count];
+        for (int i = 0, number = 1; i < count; number++) {
+            String id = String.format("GEN%07d", number);
+            if (!existing.contains(id)) {
+                ids[i++] = id;
+            }
+        }
+        String sql = "INSERT INTO planet (id, name) VALUES (?, ?)";
+        insertInChunks(sql, count, (statement, row) -> {
+            statement.setString(1, ids[(int) row]);
+            statement.setString(2, "Planet " + ids[(int) row].substring(3));
+        });
+        return ids;
+    }
+
+    private void insertTickets(Spec spec, long[] clientIds, String[] planetIds, Random random) {
+        long firstId = reserveIds("ticket", "ticket_seq", spec.tickets());
+        LocalDate firstDay = spec.lastDay().minusDays(spec.days() - 1L);
+        String sql = "INSERT INTO ticket (id, created_at, client_id, from_planet_id, to_planet_id) VALUES (?, ?, ?, ?, ?)";
+        insertInChunks(sql, spec.tickets(), (statement, row) -> {
+            int from = skewed(random, planetIds.length, 2);
+            int to = (from + 1 + skewed(random, planetIds.length - 1, 2)) % planetIds.length;
+            LocalDateTime departure = firstDay.plusDays(random.nextInt(spec.days())).atTime(timeOfDay(random));
+
+            statement.setLong(1, firstId + row);
+            statement.setTimestamp(2, Timestamp.valueOf(departure));
+            statement.setLong(3, clientIds[skewed(random, clientIds.length, 3)]);
+            statement.setString(4, planetIds[from]);
+            statement.setString(5, planetIds[to]);
+        });
+    }
+
+    /**
+     * Index in {@code [0, size)} biased towards 0: with exponent 3 the first 10% of indexes get about 46% of draws.
+     */
+    private static int skewed(Random random, int size, int exponent) {
+        return (int) (size * Math.pow(random.nextDouble(), exponent));
+    }
+
+    /**
+     * Morning peak around 08:30, evening peak around 18:00, the rest spread over the day.
+     */
+    private static LocalTime timeOfDay(Random random) {
+        double roll = random.nextDouble();
+        double hours;
+        if (roll < 0.35) {
+            hours = 8.5 + random.nextGaussian() * 1.5;
+        } else if (roll < 0.7) {
+            hours = 18 + random.nextGaussian() * 2;
+        } else {
+            hours = random.nextDouble() * 24;
+        }
+        double clamped = Math.min(Math.max(hours, 0), 24 - 1e-6);
+        return LocalTime.ofSecondOfDay((long) (clamped * 3600));
+    }
+
+    /**
+     * Reserves {@code count} consecutive ids above both the sequence and the current maximum, then moves the
+     * sequence past them so Hibernate keeps allocating non-overlapping blocks.
+     */
+    private long reserveIds(String table, String sequence, long count) {
+        return transactions.execute(session -> session.doReturningWork(connection -> {
+            long firstId;
+            try (Statement statement = connection.createStatement();
+                 ResultSet next = statement.executeQuery("SELECT NEXT VALUE FOR " + sequence)) {
+                next.next();
+                firstId = next.getLong(1);
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet max = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table)) {
+                max.next();
+                firstId = Math.max(firstId, max.getLong(1));
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (firstId + count));
+            }
+            return firstId;
+        }));
+    }
+
+    private void insertInChunks(String sql, long rows, RowBinder binder) {
+        for (long chunkStart = 0; chunkStart < rows; chunkStart += CHUNK_SIZE) {
+            long chunkEnd = Math.min(chunkStart + CHUNK_SIZE, rows);
+            long first = chunkStart;
+            try {
+                transactions.executeWithoutResult(session -> session.doWork(connection ->
+                        insertRows(connection, sql, first, chunkEnd, binder)));
+            } catch (RuntimeException e) {
+                throw new DataProcessingException("Error generating rows " + first + ".." + chunkEnd + " with: " + sql, e);
+            }
+        }
+    }
+
+    private static void insertRows(Connection connection, String sql, long from, long to, RowBinder binder)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (long row = from; row < to; row++) {
+                binder.bind(statement, row);
+                statement.addBatch();
+                if ((row - from + 1) % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private long[] selectClientIds() {
+        return transactions.executeReadOnly(session -> session.createQuery("SELECT c.id FROM Client c ORDER BY c.id", Long.class)
+                .getResultStream()
+                .mapToLong(Long::longValue)
+                .toArray());
+    }
+
+    private String[] selectPlanetIds() {
+        return transactions.executeReadOnly(session -> session.createQuery("SELECT p.id FROM Planet p ORDER BY p.id", String.class)
+                .getResultList()
+                .toArray(String[]::new));
+    }
+
+    private static long millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement statement, long row) throws SQLException;
+    }
+}
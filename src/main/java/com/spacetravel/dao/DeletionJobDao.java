@@ -0,0 +1,18 @@
+package com.spacetravel.dao;
+
+import com.spacetravel.entity.DeletionJob;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface DeletionJobDao {
+    DeletionJob save(DeletionJob job);
+    Optional<DeletionJob> findById(Long id);
+    List<DeletionJob> findAll();
+    List<DeletionJob> findUnfinished();
+    Optional<DeletionJob> findUnfinishedByTarget(DeletionJob.TargetType targetType, String targetId);
+    long countTickets(DeletionJob.TargetType targetType, String targetId);
+    int deleteNextChunk(DeletionJob job, int chunkSize);
+    boolean complete(DeletionJob job);
+    DeletionJob update(DeletionJob job);
+}
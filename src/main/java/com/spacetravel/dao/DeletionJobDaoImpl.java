@@ -0,0 +1,206 @@
+package com.spacetravel.dao;
+
+import com.spacetravel.config.TransactionTemplate;
+import com.spacetravel.entity.DeletionJob;
+import com.spacetravel.exception.DataProcessingException;
+import com.spacetravel.util.LoggerUtil;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public class DeletionJobDaoImpl implements DeletionJobDao {
+    private static final Logger LOGGER = LoggerUtil.getLogger(DeletionJobDaoImpl.class);
+
+    private final TransactionTemplate transactions = new TransactionTemplate();
+
+    public DeletionJob save(DeletionJob job) {
+        try {
+            transactions.executeWithoutResult(session -> session.persist(job));
+            LOGGER.info("Deletion job saved: {}", job);
+            return job;
+        } catch (Exception e) {
+            String msg = "Error saving deletion job for " + job.getTargetType() + " " + job.getTargetId();
+            throw new DataProcessingException(msg, e);
+        }
+    }
+
+    public Optional<DeletionJob> findById(Long id) {
+        return transactions.executeReadOnly(session -> Optional.ofNullable(session.get(DeletionJob.class, id)));
+    }
+
+    public List<DeletionJob> findAll() {
+        return transactions.executeReadOnly(session ->
+                session.createQuery("FROM DeletionJob j ORDER BY j.id", DeletionJob.class).list());
+    }
+
+    public List<DeletionJob> findUnfinished() {
+        return transactions.executeReadOnly(session ->
+                session.createQuery("FROM DeletionJob j WHERE j.status IN :statuses ORDER BY j.id", DeletionJob.class)
+                        .setParameter("statuses", List.of(DeletionJob.Status.PENDING, DeletionJob.Status.RUNNING))
+                        .list());
+    }
+
+    public Optional<DeletionJob> findUnfinishedByTarget(DeletionJob.TargetType targetType, String targetId) {
+        return transactions.executeReadOnly(session -> session.createQuery(
+                        "FROM DeletionJob j WHERE j.targetType = :type AND j.targetId = :target AND j.status IN :statuses",
+                        DeletionJob.class)
+                .setParameter("type", targetType)
+                .setParameter("target", targetId)
+                .setParameter("statuses", List.of(DeletionJob.Status.PENDING, DeletionJob.Status.RUNNING))
+                .uniqueResultOptional());
+    }
+
+    /**
+     * Counts a planet's tickets with one indexed query per direction, summed in the same transaction.
+     */
+    public long countTickets(DeletionJob.TargetType targetType, String targetId) {
+        try {
+            return transactions.executeReadOnly(session -> indexedFilters(targetType).stream()
+                    .mapToLong(filter -> session.createQuery("SELECT COUNT(t) FROM Ticket t WHERE " + filter, Long.class)
+                            .setParameter("target", targetValue(targetType, targetId))
+                            .getSingleResult())
+                    .sum());
+        } catch (Exception e) {
+            String msg = "Error counting tickets of " + targetType + " " + targetId;
+            throw new DataProcessingException(msg, e);
+        }
+    }
+
+    /**
+     * Deletes the next {@code chunkSize} tickets of the job's target above its checkpoint and moves the checkpoint
+     * in the same transaction, so a restarted job neither skips nor double-counts a chunk. Returns the number
+     * of tickets deleted, 0 when none are left above the checkpoint.
+     */
+    public int deleteNextChunk(DeletionJob job, int chunkSize) {
+        try {
+            Chunk chunk = transactions.execute(session -> {
+                List<Long> ids = session.createQuery("SELECT t.id FROM Ticket t WHERE "
+                                + ticketFilter(job.getTargetType()) + " AND t.id > :after ORDER BY t.id", Long.class)
+                        .setParameter("target", targetValue(job.getTargetType(), job.getTargetId()))
+                        .setParameter("after", job.getLastTicketId())
+                        .setMaxResults(chunkSize)
+                        .list();
+                if (ids.isEmpty()) {
+                    return new Chunk(job.getLastTicketId(), 0);
+                }
+                int rows = session.createMutationQuery("DELETE FROM Ticket t WHERE t.id IN :ids")
+                        .setParameter("ids", ids)
+                        .executeUpdate();
+                Chunk deleted = new Chunk(ids.get(ids.size() - 1), rows);
+                checkpoint(session, job, deleted);
+                return deleted;
+            });
+            // The entity only moves once the chunk is committed, so a failed chunk is retried from the old checkpoint
+            apply(job, chunk);
+            LOGGER.debug("Deletion job {} deleted {} tickets up to id {}", job.getId(), chunk.rows(), chunk.lastTicketId());
+            return chunk.rows();
+        } catch (Exception e) {
+            String msg = "Error deleting tickets of " + job.getTargetType() + " " + job.getTargetId()
+                    + " after ticket " + job.getLastTicketId();
+            throw new DataProcessingException(msg, e);
+        }
+    }
+
+    /**
+     * Deletes the job's client or planet and marks the job done, unless tickets still reference it (for example
+     * ones created after the job started): then the checkpoint is reset so the next chunks pick them up, and
+     * {@code false} is returned.
+     */
+    public boolean complete(DeletionJob job) {
+        try {
+            boolean done = transactions.execute(session -> {
+                boolean childrenLeft = indexedFilters(job.getTargetType()).stream()
+                        .anyMatch(filter -> !session.createQuery("SELECT t.id FROM Ticket t WHERE " + filter, Long.class)
+                                .setParameter("target", targetValue(job.getTargetType(), job.getTargetId()))
+                                .setMaxResults(1)
+                                .list()
+                                .isEmpty());
+                if (childrenLeft) {
+                    checkpoint(session, job, new Chunk(0, 0));
+                    return false;
+                }
+                String entity = job.getTargetType() == DeletionJob.TargetType.CLIENT ? "Client" : "Planet";
+                session.createMutationQuery("DELETE FROM " + entity + " WHERE id = :target")
+                        .setParameter("target", targetValue(job.getTargetType(), job.getTargetId()))
+                        .executeUpdate();
+                session.createMutationQuery("UPDATE DeletionJob j SET j.status = :status, j.updatedAt = :now WHERE j.id = :id")
+                        .setParameter("status", DeletionJob.Status.DONE)
+                        .setParameter("now", Instant.now())
+                        .setParameter("id", job.getId())
+                        .executeUpdate();
+                return true;
+            });
+            if (done) {
+                job.setStatus(DeletionJob.Status.DONE);
+                job.setUpdatedAt(Instant.now());
+                LOGGER.info("Deletion job finished: {}", job);
+            } else {
+                job.setLastTicketId(0);
+            }
+            return done;
+        } catch (Exception e) {
+            String msg = "Error completing deletion of " + job.getTargetType() + " " + job.getTargetId();
+            throw new DataProcessingException(msg, e);
+        }
+    }
+
+    public DeletionJob update(DeletionJob job) {
+        try {
+            job.setUpdatedAt(Instant.now());
+            return transactions.execute(session -> session.merge(job));
+        } catch (Exception e) {
+            String msg = "Error updating deletion job: " + job.getId();
+            throw new DataProcessingException(msg, e);
+        }
+    }
+
+    private static void checkpoint(Session session, DeletionJob job, Chunk chunk) {
+        session.createMutationQuery("UPDATE DeletionJob j SET j.status = :status, j.lastTicketId = :last, "
+                        + "j.deletedTickets = j.deletedTickets + :rows, j.updatedAt = :now WHERE j.id = :id")
+                .setParameter("status", DeletionJob.Status.RUNNING)
+                .setParameter("last", chunk.lastTicketId())
+                .setParameter("rows", (long) chunk.rows())
+                .setParameter("now", Instant.now())
+                .setParameter("id", job.getId())
+                .executeUpdate();
+    }
+
+    private static void apply(DeletionJob job, Chunk chunk) {
+        if (chunk.rows() > 0) {
+            job.setStatus(DeletionJob.Status.RUNNING);
+            job.setLastTicketId(chunk.lastTicketId());
+            job.setDeletedTickets(job.getDeletedTickets() + chunk.rows());
+            job.setUpdatedAt(Instant.now());
+        }
+    }
+
+    /**
+     * Filter for the chunk query, which walks the primary key above the checkpoint in order, so the OR costs
+     * no extra scan there.
+     */
+    private static String ticketFilter(DeletionJob.TargetType targetType) {
+        return targetType == DeletionJob.TargetType.CLIENT
+                ? "t.client.id = :target"
+                : "(t.fromPlanet.id = :target OR t.toPlanet.id = :target)";
+    }
+
+    /**
+     * The target's filter as disjoint per-direction filters: an OR across from_planet_id and to_planet_id cannot
+     * use either {@code idx_ticket_*} index, so counts and existence checks run one indexed query per direction.
+     */
+    private static List<String> indexedFilters(DeletionJob.TargetType targetType) {
+        return targetType == DeletionJob.TargetType.CLIENT
+                ? List.of("t.client.id = :target")
+                : List.of("t.fromPlanet.id = :target", "t.toPlanet.id = :target AND t.fromPlanet.id <> :target");
+    }
+
+    private static Object targetValue(DeletionJob.TargetType targetType, String targetId) {
+        return targetType == DeletionJob.TargetType.CLIENT ? Long.valueOf(targetId) : targetId;
+    }
+
+    private record Chunk(long lastTicketId, int rows) {
+    }
+}
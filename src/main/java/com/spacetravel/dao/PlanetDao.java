@@ -9,6 +9,8 @@ public interface PlanetDao {
     Optional<Planet> findById(String id);
     Optional<Planet> findByName(String name);
     List<Planet> findAll();
+    boolean existsById(String id);
     void delete(Planet planet);
+    int deleteById(String id);
     Planet update(Planet planet);
 }
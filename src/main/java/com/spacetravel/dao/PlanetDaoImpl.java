@@ -1,11 +1,9 @@
 package com.spacetravel.dao;
 
-import com.spacetravel.config.HibernateUtil;
+import com.spacetravel.config.TransactionTemplate;
 import com.spacetravel.entity.Planet;
 import com.spacetravel.exception.DataProcessingException;
 import com.spacetravel.util.LoggerUtil;
-import org.hibernate.Session;
-import org.hibernate.Transaction;
 import org.slf4j.Logger;
 
 import java.util.List;
@@ -14,87 +12,92 @@ import java.util.Optional;
 public class PlanetDaoImpl implements PlanetDao {
     private static final Logger LOGGER = LoggerUtil.getLogger(PlanetDaoImpl.class);
 
+    private final TransactionTemplate transactions = new TransactionTemplate();
+
     public Planet save(Planet planet) {
-        Transaction tx = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            tx = session.beginTransaction();
-            session.persist(planet);
-            tx.commit();
+        try {
+            transactions.executeWithoutResult(session -> session.persist(planet));
             LOGGER.info("Planet saved: {}", planet.getName());
             return planet;
         } catch (Exception e) {
-            if (tx != null) {
-                tx.rollback();
-            }
             String msg = "Error saving planet: " + planet.getName();
             throw new DataProcessingException(msg, e);
         }
     }
 
     public Optional<Planet> findById(String id) {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            Planet planet = session.get(Planet.class, id);
-            return Optional.ofNullable(planet);
-        }
+        return transactions.executeReadOnly(session -> Optional.ofNullable(session.get(Planet.class, id)));
     }
 
     public Optional<Planet> findByName(String name) {
-        Transaction tx = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            tx = session.beginTransaction();
-
-            Optional<Planet> planet = session.createQuery("FROM Planet p WHERE p.name = :name", Planet.class)
-                    .setParameter("name", name)
-                    .uniqueResultOptional();
-
-            tx.commit();
-            return planet;
+        try {
+            return transactions.executeReadOnly(session ->
+                    session.bySimpleNaturalId(Planet.class).loadOptional(name));
         } catch (Exception e) {
-            if (tx != null) {
-                tx.rollback();
-            }
             String msg = "Error finding planet by name: " + name;
             throw new DataProcessingException(msg, e);
-
         }
     }
 
     public List<Planet> findAll() {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            return session.createQuery("from Planet", Planet.class).list();
+        return transactions.executeReadOnly(session -> session.createQuery("from Planet", Planet.class).list());
+    }
+
+    /**
+     * Probes the primary key index without loading the planet.
+     */
+    public boolean existsById(String id) {
+        try {
+            return transactions.executeReadOnly(session -> !session.createQuery(
+                            "SELECT 1 FROM Planet p WHERE p.id = :id", Integer.class)
+                    .setParameter("id", id)
+                    .setMaxResults(1)
+                    .list()
+                    .isEmpty());
+        } catch (Exception e) {
+            String msg = "Error checking planet with id: " + id;
+            throw new DataProcessingException(msg, e);
         }
     }
 
     public void delete(Planet planet) {
-        Transaction tx = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            tx = session.beginTransaction();
-            session.remove(planet);
-            tx.commit();
+        try {
+            transactions.executeWithoutResult(session -> session.remove(session.contains(planet)
+                    ? planet
+                    : session.getReference(Planet.class, planet.getId())));
             LOGGER.info("Planet deleted: {}", planet.getName());
         } catch (Exception e) {
-            if (tx != null) {
-                tx.rollback();
-            }
             String msg = "Error deleting planet: " + planet.getName();
             throw new DataProcessingException(msg, e);
         }
     }
 
+    /**
+     * Deletes the planet and, through the ON DELETE CASCADE foreign keys, all of its tickets with one statement.
+     * Returns the number of planet rows deleted, 0 when there was no such planet.
+     */
+    public int deleteById(String id) {
+        try {
+            int deleted = transactions.execute(session ->
+                    session.createMutationQuery("DELETE FROM Planet WHERE id = :id")
+                            .setParameter("id", id)
+                            .executeUpdate());
+            LOGGER.info("Planet {} deleted: {} row(s)", id, deleted);
+            return deleted;
+        } catch (Exception e) {
+            String msg = "Error deleting planet with id: " + id;
+            throw new DataProcessingException(msg, e);
+        }
+    }
+
     public Planet update(Planet planet) {
-        Transaction tx = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            tx = session.beginTransaction();
-            Planet merged = session.merge(planet);
-            tx.commit();
+        try {
+            Planet merged = transactions.execute(session -> session.merge(planet));
             LOGGER.info("Planet updated: {}", merged.getName());
             return merged;
         } catch (Exception e) {
-            if (tx != null) {
-                tx.rollback();
-            }
             String msg = "Error updating planet: " + planet.getName();
             throw new DataProcessingException(msg, e);
         }
     }
-}
\ No newline at end of file
+}
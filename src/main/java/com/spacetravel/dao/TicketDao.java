@@ -1,24 +1,56 @@
 package com.spacetravel.dao;
 
+import com.spacetravel.dto.TicketSearch;
+import com.spacetravel.dto.TicketView;
 import com.spacetravel.entity.Planet;
 import com.spacetravel.entity.Ticket;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TicketDao {
     Ticket save(Ticket ticket);
+    Ticket saveByReference(Long clientId, String fromPlanetId, String toPlanetId);
+    List<Ticket> saveAll(Collection<Ticket> tickets);
     Optional<Ticket> findById(Long id);
+    Optional<Ticket> findRowById(Long id);
+    boolean existsById(Long id);
+    long count();
+    long countByClient(Long clientId);
+    long countByFromPlanet(String planetId);
+    long countByToPlanet(String planetId);
+    long countByDateRange(LocalDate from, LocalDate to);
     List<Ticket> findAll();
     List<Ticket> findAllByClient(Long clientId);
     List<Ticket> findAllByFromPlanet(String planetId);
     List<Ticket> findAllByToPlanet(String planetId);
     List<Ticket> findAllByDate(LocalDate createdAt);
-    Ticket updateFromPlanet(Long ticketId, Planet newFromPlanet);
-    Ticket updateToPlanet(Long ticketId, Planet newToPlanet);
+    List<Ticket> findPage(Long afterId, int limit);
+    List<Ticket> findPageByClient(Long clientId, Long afterId, int limit);
+    List<Ticket> findPageByFromPlanet(String planetId, Long afterId, int limit);
+    List<Ticket> findPageByToPlanet(String planetId, Long afterId, int limit);
+    List<Ticket> findPageByDate(LocalDate createdAt, Long afterId, int limit);
+    Stream<Ticket> streamAll();
+    List<TicketView> findViewsByClient(Long clientId);
+    List<TicketView> findViewsByFromPlanet(String planetId);
+    List<TicketView> findViewsByToPlanet(String planetId);
+    List<TicketView> findViewsByDate(LocalDate createdAt);
+    List<TicketView> findViewPage(Long afterId, int limit);
+    Stream<TicketView> streamAllViews();
+    List<TicketView> search(TicketSearch search);
+    Optional<Ticket> updateFromPlanet(Long ticketId, Planet newFromPlanet);
+    Optional<Ticket> updateToPlanet(Long ticketId, Planet newToPlanet);
+    int rerouteFromPlanet(Collection<Long> ticketIds, String fromPlanetId);
+    int rerouteToPlanet(Collection<Long> ticketIds, String toPlanetId);
     void delete(Ticket ticket);
-    void deleteAllByClientId(Long clientId);
-    void deleteAllByFromPlanetId(String fromPlanetId);
-    void deleteAllByToPlanetId(String toPlanetId);
+    int deleteById(Long id);
+    int deleteAllByClientId(Long clientId);
+    int deleteAllByClientId(Long clientId, int chunkSize);
+    int deleteAllByFromPlanetId(String fromPlanetId);
+    int deleteAllByFromPlanetId(String fromPlanetId, int chunkSize);
+    int deleteAllByToPlanetId(String toPlanetId);
+    int deleteAllByToPlanetId(String toPlanetId, int chunkSize);
 }
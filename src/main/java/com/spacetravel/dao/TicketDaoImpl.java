@@ -1,120 +1,262 @@
 package com.spacetravel.dao;
 
 import com.spacetravel.config.HibernateUtil;
+import com.spacetravel.config.TransactionTemplate;
+import com.spacetravel.dto.TicketSearch;
+import com.spacetravel.dto.TicketView;
+import com.spacetravel.entity.Client;
 import com.spacetravel.entity.Planet;
 import com.spacetravel.entity.Ticket;
 import com.spacetravel.exception.DataProcessingException;
 import com.spacetravel.util.LoggerUtil;
+import org.hibernate.FlushMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
-import org.hibernate.Transaction;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.RootGraph;
+import org.hibernate.query.Query;
 import org.slf4j.Logger;
 
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 public class TicketDaoImpl implements TicketDao {
     private static final Logger LOGGER = LoggerUtil.getLogger(TicketDaoImpl.class);
 
+    private static final String VIEW_SELECT = "SELECT new com.spacetravel.dto.TicketView("
+            + "t.id, c.id, c.name, f.id, f.name, d.id, d.name, t.createdAt) "
+            + "FROM Ticket t JOIN t.client c JOIN t.fromPlanet f JOIN t.toPlanet d ";
+
+    private static final int REROUTE_CHUNK_SIZE = 1000;
+
+    private final TransactionTemplate transactions = new TransactionTemplate();
+    private final int batchSize;
+    private final int fetchSize;
+
+    public TicketDaoImpl() {
+        this(HibernateUtil.getJdbcBatchSize(), HibernateUtil.getJdbcFetchSize());
+    }
+
+    public TicketDaoImpl(int batchSize) {
+        this(batchSize, HibernateUtil.getJdbcFetchSize());
+    }
+
+    public TicketDaoImpl(int batchSize, int fetchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be a positive number");
+        }
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("Fetch size must be a positive number");
+        }
+        this.batchSize = batchSize;
+        this.fetchSize = fetchSize;
+    }
+
     public Ticket save(Ticket ticket) {
-        Transaction tx = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            tx = session.beginTransaction();
-            session.persist(ticket);
-            tx.commit();
-            LOGGER.info("Ticket saved for client: {}", ticket.getClient().getId());
+        try {
+            transactions.executeWithoutResult(session -> session.persist(ticket));
+            LOGGER.debug("Ticket saved for client: {}", ticket.getClient().getId());
             return ticket;
         } catch (Exception e) {
-            if (tx != null) {
-                tx.rollback();
-            }
             String msg = "Error saving ticket: " + ticket.getClient().getId();
             throw new DataProcessingException(msg, e);
         }
     }
 
+    /**
+     * Inserts a ticket pointing at uninitialized client and planet proxies, so nothing is selected first.
+     * The insert is flushed before returning and a missing client or planet surfaces as a
+     * {@link org.hibernate.exception.ConstraintViolationException} on the {@code fk_ticket_*} constraint.
+     */
+    public Ticket saveByReference(Long clientId, String fromPlanetId, String toPlanetId) {
+        try {
+            Ticket ticket = transactions.execute(session -> {
+                Ticket created = new Ticket(session.getReference(Client.class, clientId),
+                        session.getReference(Planet.class, fromPlanetId),
+                        session.getReference(Planet.class, toPlanetId));
+                session.persist(created);
+                session.flush();
+                return created;
+            });
+            LOGGER.debug("Ticket {} saved for client: {}", ticket.getId(), clientId);
+            return ticket;
+        } catch (Exception e) {
+            String msg = "Error saving ticket for client " + clientId + " from " + fromPlanetId + " to " + toPlanetId;
+            throw new DataProcessingException(msg, e);
+        }
+    }
+
+    /**
+     * Persists all tickets in a single transaction. The persistence context is flushed and
+     * cleared every {@code batchSize} tickets so JDBC batches are sent and memory stays bounded.
+     * When joined to an enclosing unit of work, the clear also detaches the caller's entities.
+     */
+    public List<Ticket> saveAll(Collection<Ticket> tickets) {
+        List<Ticket> saved = new ArrayList<>(tickets.size());
+        try {
+            transactions.executeWithoutResult(session -> {
+                session.setJdbcBatchSize(batchSize);
+                for (Ticket ticket : tickets) {
+                    session.persist(ticket);
+                    saved.add(ticket);
+                    if (saved.size() % batchSize == 0) {
+                        session.flush();
+                        session.clear();
+                    }
+                }
+            });
+            if (LOGGER.isInfoEnabled()) {
+                LOGGER.info("Saved {} tickets in batches of {}", saved.size(), batchSize);
+            }
+            return saved;
+        } catch (Exception e) {
+            String msg = "Error saving ticket batch after " + saved.size() + " of " + tickets.size() + " tickets";
+            throw new DataProcessingException(msg, e);
+        }
+    }
+
     public Optional<Ticket> findById(Long id) {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            return session.createQuery(
+        try {
+            return transactions.executeReadOnly(session -> session.createQuery(
                             "FROM Ticket t " +
                                     "JOIN FETCH t.client " +
                                     "JOIN FETCH t.fromPlanet " +
                                     "JOIN FETCH t.toPlanet " +
                                     "WHERE t.id = :id", Ticket.class)
                     .setParameter("id", id)
-                    .uniqueResultOptional();
+                    .uniqueResultOptional());
         } catch (Exception e) {
             String msg = "Error retrieving ticket by ID: " + id;
             throw new DataProcessingException(msg, e);
         }
     }
 
-    public List<Ticket> findAll() {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            return session.createQuery("FROM Ticket", Ticket.class).list();
+    /**
+     * Loads the ticket row alone: client and planets stay uninitialized proxies, whose ids are usable without
+     * further queries. Inside a unit of work the ticket stays managed, so later updates reuse it.
+     */
+    public Optional<Ticket> findRowById(Long id) {
+        try {
+            return transactions.executeReadOnly(session -> Optional.ofNullable(session.get(Ticket.class, id)));
+        } catch (Exception e) {
+            String msg = "Error retrieving ticket row by ID: " + id;
+            throw new DataProcessingException(msg, e);
         }
     }
 
-    public List<Ticket> findAllByClient(Long clientId) {
-        Transaction tx = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            tx = session.beginTransaction();
+    /**
+     * Probes the primary key index without loading the ticket or joining its client and planets.
+     */
+    public boolean existsById(Long id) {
+        try {
+            return transactions.executeReadOnly(session -> !session.createQuery(
+                            "SELECT 1 FROM Ticket t WHERE t.id = :id", Integer.class)
+                    .setParameter("id", id)
+                    .setMaxResults(1)
+                    .list()
+                    .isEmpty());
+        } catch (Exception e) {
+            String msg = "Error checking ticket with id: " + id;
+            throw new DataProcessingException(msg, e);
+        }
+    }
+
+    public long count() {
+        return countWhere("", Map.of());
+    }
+
+    public long countByClient(Long clientId) {
+        return countWhere("WHERE t.client.id = :clientId", Map.of("clientId", clientId));
+    }
+
+    public long countByFromPlanet(String planetId) {
+        return countWhere("WHERE t.fromPlanet.id = :planetId", Map.of("planetId", planetId));
+    }
+
+    public long countByToPlanet(String planetId) {
+        return countWhere("WHERE t.toPlanet.id = :planetId", Map.of("planetId", planetId));
+    }
 
-            List<Ticket> tickets = session.createQuery(
+    /**
+     * Tickets created from the start of {@code from} up to the end of {@code to} (both UTC, inclusive).
+     */
+    public long countByDateRange(LocalDate from, LocalDate to) {
+        Instant start = from.atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant end = to.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        return countWhere("WHERE t.createdAt >= :start AND t.createdAt < :end", Map.of("start", start, "end", end));
+    }
+
+    /**
+     * {@code COUNT(*)} over the ticket table alone: the filters use the ticket's own columns, so no join
+     * is needed and H2 can answer from an index.
+     */
+    private long countWhere(String filter, Map<String, Object> params) {
+        try {
+            return transactions.executeReadOnly(session -> {
+                Query<Long> query = session.createQuery("SELECT COUNT(*) FROM Ticket t " + filter, Long.class);
+                params.forEach(query::setParameter);
+                return query.getSingleResult();
+            });
+        } catch (Exception e) {
+            String msg = "Error counting tickets for " + params;
+            throw new DataProcessingException(msg, e);
+        }
+    }
+
+    public List<Ticket> findAll() {
+        return transactions.executeReadOnly(session -> session.createQuery("FROM Ticket", Ticket.class)
+                .setEntityGraph(associationsGraph(session), GraphSemantic.FETCH)
+                .list());
+    }
+
+    public List<Ticket> findAllByClient(Long clientId) {
+        try {
+            return transactions.executeReadOnly(session -> session.createQuery(
                             "FROM Ticket t WHERE t.client.id = :clientId", Ticket.class)
+                    .setEntityGraph(associationsGraph(session), GraphSemantic.FETCH)
                     .setParameter("clientId", clientId)
-                    .getResultList();
-            tx.commit();
-            return tickets;
+                    .getResultList());
         } catch (Exception e) {
-            if (tx != null) {
-                tx.rollback();
-            }
             String msg = "Error retrieving tickets for client ID: " + clientId;
             throw new DataProcessingException(msg, e);
         }
     }
 
     public List<Ticket> findAllByFromPlanet(String planetId) {
-        Transaction tx = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            tx = session.beginTransaction();
-
-            List<Ticket> tickets = session.createQuery(
+        try {
+            return transactions.executeReadOnly(session -> session.createQuery(
                             "FROM Ticket t WHERE t.fromPlanet.id = :planetId", Ticket.class)
+                    .setEntityGraph(associationsGraph(session), GraphSemantic.FETCH)
                     .setParameter("planetId", planetId)
-                    .getResultList();
-
-            tx.commit();
-            return tickets;
+                    .getResultList());
         } catch (Exception e) {
-            if (tx != null) {
-                tx.rollback();
-            }
             String msg = "Error retrieving tickets from planet ID: " + planetId;
             throw new DataProcessingException(msg, e);
         }
     }
 
     public List<Ticket> findAllByToPlanet(String planetId) {
-        Transaction tx = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            tx = session.beginTransaction();
-
-            List<Ticket> tickets = session.createQuery(
+        try {
+            return transactions.executeReadOnly(session -> session.createQuery(
                             "FROM Ticket t WHERE t.toPlanet.id = :planetId", Ticket.class)
+                    .setEntityGraph(associationsGraph(session), GraphSemantic.FETCH)
                     .setParameter("planetId", planetId)
-                    .getResultList();
-
-            tx.commit();
-            return tickets;
+                    .getResultList());
         } catch (Exception e) {
-            if (tx != null) {
-                tx.rollback();
-            }
             String msg = "Error retrieving tickets to planet ID: " + planetId;
             throw new DataProcessingException(msg, e);
         }
@@ -124,142 +266,443 @@ public class TicketDaoImpl implements TicketDao {
         Instant startOfDay = createdAt.atStartOfDay(ZoneOffset.UTC).toInstant();
         Instant endOfDay = createdAt.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
 
-        Transaction tx = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            tx = session.beginTransaction();
-
-            List<Ticket> tickets = session.createQuery(
+        try {
+            return transactions.executeReadOnly(session -> session.createQuery(
                             "FROM Ticket t WHERE t.createdAt >= :startOfDay AND t.createdAt < :endOfDay",
                             Ticket.class)
+                    .setEntityGraph(associationsGraph(session), GraphSemantic.FETCH)
                     .setParameter("startOfDay", startOfDay)
                     .setParameter("endOfDay", endOfDay)
-                    .getResultList();
-
-            tx.commit();
-            return tickets;
+                    .getResultList());
         } catch (Exception e) {
-            if (tx != null) {
-                tx.rollback();
-            }
             String msg = "Error retrieving tickets by createdAt: " + createdAt;
             throw new DataProcessingException(msg, e);
         }
     }
 
-    public Ticket updateFromPlanet(Long ticketId, Planet newFromPlanet) {
-        Transaction tx = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            tx = session.beginTransaction();
-            Ticket ticket = session.get(Ticket.class, ticketId);
-            if (ticket == null) {
-                throw new DataProcessingException("Ticket not found for ID: " + ticketId, new NullPointerException());
-            }
-            ticket.setFromPlanet(newFromPlanet);
-            session.merge(ticket);
-            tx.commit();
-            LOGGER.info("Updated fromPlanet of ticket {} to {}", ticketId, newFromPlanet.getId());
-            return ticket;
+    public List<Ticket> findPage(Long afterId, int limit) {
+        return findPageWhere("", Map.of(), afterId, limit);
+    }
+
+    public List<Ticket> findPageByClient(Long clientId, Long afterId, int limit) {
+        return findPageWhere("AND t.client.id = :clientId ", Map.of("clientId", clientId), afterId, limit);
+    }
+
+    public List<Ticket> findPageByFromPlanet(String planetId, Long afterId, int limit) {
+        return findPageWhere("AND t.fromPlanet.id = :planetId ", Map.of("planetId", planetId), afterId, limit);
+    }
+
+    public List<Ticket> findPageByToPlanet(String planetId, Long afterId, int limit) {
+        return findPageWhere("AND t.toPlanet.id = :planetId ", Map.of("planetId", planetId), afterId, limit);
+    }
+
+    public List<Ticket> findPageByDate(LocalDate createdAt, Long afterId, int limit) {
+        Instant startOfDay = createdAt.atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant endOfDay = createdAt.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        return findPageWhere("AND t.createdAt >= :startOfDay AND t.createdAt < :endOfDay ",
+                Map.of("startOfDay", startOfDay, "endOfDay", endOfDay), afterId, limit);
+    }
+
+    /**
+     * Keyset (seek) pagination: returns up to {@code limit} tickets with an id greater than {@code afterId},
+     * ordered by id. Pass the last id of a page as {@code afterId} to fetch the next one.
+     */
+    private List<Ticket> findPageWhere(String filter, Map<String, Object> params, Long afterId, int limit) {
+        try {
+            return transactions.executeReadOnly(session -> {
+                Query<Ticket> query = session.createQuery(
+                                "FROM Ticket t WHERE t.id > :afterId " + filter + "ORDER BY t.id", Ticket.class)
+                        .setEntityGraph(associationsGraph(session), GraphSemantic.FETCH)
+                        .setParameter("afterId", afterId == null ? 0L : afterId)
+                        .setMaxResults(limit);
+                params.forEach(query::setParameter);
+                return query.list();
+            });
+        } catch (Exception e) {
+            String msg = "Error retrieving ticket page after ID: " + afterId;
+            throw new DataProcessingException(msg, e);
+        }
+    }
+
+    /**
+     * Streams all tickets ordered by id through a forward-only cursor. The session stays open until
+     * the stream is closed and is cleared every {@code fetchSize} rows, so callers must close the
+     * stream (e.g. with try-with-resources).
+     */
+    public Stream<Ticket> streamAll() {
+        Session session = openReadOnlySession();
+        try {
+            Query<Ticket> query = session.createQuery("FROM Ticket t ORDER BY t.id", Ticket.class)
+                    .setEntityGraph(associationsGraph(session), GraphSemantic.FETCH);
+            return scroll(session, query);
         } catch (Exception e) {
-            if (tx != null) {
-                tx.rollback();
+            session.close();
+            throw new DataProcessingException("Error streaming tickets", e);
+        }
+    }
+
+    public List<TicketView> findViewsByClient(Long clientId) {
+        return findViewsWhere("WHERE c.id = :clientId ", Map.of("clientId", clientId));
+    }
+
+    public List<TicketView> findViewsByFromPlanet(String planetId) {
+        return findViewsWhere("WHERE f.id = :planetId ", Map.of("planetId", planetId));
+    }
+
+    public List<TicketView> findViewsByToPlanet(String planetId) {
+        return findViewsWhere("WHERE d.id = :planetId ", Map.of("planetId", planetId));
+    }
+
+    public List<TicketView> findViewsByDate(LocalDate createdAt) {
+        Instant startOfDay = createdAt.atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant endOfDay = createdAt.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        return findViewsWhere("WHERE t.createdAt >= :startOfDay AND t.createdAt < :endOfDay ",
+                Map.of("startOfDay", startOfDay, "endOfDay", endOfDay));
+    }
+
+    public List<TicketView> findViewPage(Long afterId, int limit) {
+        try {
+            return transactions.executeReadOnly(session -> session.createQuery(
+                            VIEW_SELECT + "WHERE t.id > :afterId ORDER BY t.id", TicketView.class)
+                    .setParameter("afterId", afterId == null ? 0L : afterId)
+                    .setMaxResults(limit)
+                    .list());
+        } catch (Exception e) {
+            String msg = "Error retrieving ticket view page after ID: " + afterId;
+            throw new DataProcessingException(msg, e);
+        }
+    }
+
+    public Stream<TicketView> streamAllViews() {
+        Session session = openReadOnlySession();
+        try {
+            return scroll(session, session.createQuery(VIEW_SELECT + "ORDER BY t.id", TicketView.class));
+        } catch (Exception e) {
+            session.close();
+            throw new DataProcessingException("Error streaming ticket views", e);
+        }
+    }
+
+    /**
+     * Runs all filters of {@code search} as one projection query. Filters compare the ticket's own foreign key
+     * and created_at columns, so H2 can pick one of the {@code idx_ticket_*} indexes and check the rest per row.
+     * <p>
+     * An OR across from_planet_id and to_planet_id cannot use either index, so the either-direction planet filter
+     * runs as two indexed queries in the same transaction, one per direction, whose sorted results are merged.
+     */
+    public List<TicketView> search(TicketSearch search) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> params = new HashMap<>();
+        if (search.clientId() != null) {
+            conditions.add("t.client.id = :clientId");
+            params.put("clientId", search.clientId());
+        }
+        if (search.fromPlanetId() != null) {
+            conditions.add("t.fromPlanet.id = :fromPlanetId");
+            params.put("fromPlanetId", search.fromPlanetId());
+        }
+        if (search.toPlanetId() != null) {
+            conditions.add("t.toPlanet.id = :toPlanetId");
+            params.put("toPlanetId", search.toPlanetId());
+        }
+        if (search.createdFrom() != null) {
+            conditions.add("t.createdAt >= :createdFrom");
+            params.put("createdFrom", search.createdFrom());
+        }
+        if (search.createdTo() != null) {
+            conditions.add("t.createdAt < :createdTo");
+            params.put("createdTo", search.createdTo());
+        }
+        try {
+            return transactions.executeReadOnly(session -> {
+                if (search.planetId() == null) {
+                    return searchWhere(session, search, conditions, params);
+                }
+                Map<String, Object> planetParams = new HashMap<>(params);
+                planetParams.put("planetId", search.planetId());
+                List<TicketView> found = new ArrayList<>(searchWhere(session, search,
+                        withCondition(conditions, "t.fromPlanet.id = :planetId"), planetParams));
+                // Tickets departing from the planet are already in the first branch
+                found.addAll(searchWhere(session, search,
+                        withCondition(conditions, "t.toPlanet.id = :planetId AND t.fromPlanet.id <> :planetId"), planetParams));
+                found.sort(search.sort().comparator());
+                return search.limit() == null || found.size() <= search.limit()
+                        ? found
+                        : found.subList(0, search.limit());
+            });
+        } catch (Exception e) {
+            String msg = "Error searching tickets with " + search;
+            throw new DataProcessingException(msg, e);
+        }
+    }
+
+    private static List<TicketView> searchWhere(Session session, TicketSearch search, List<String> conditions,
+                                                Map<String, Object> params) {
+        String where = conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions) + " ";
+        Query<TicketView> query = session.createQuery(
+                VIEW_SELECT + where + "ORDER BY " + search.sort().orderBy(), TicketView.class);
+        params.forEach(query::setParameter);
+        if (search.limit() != null) {
+            query.setMaxResults(search.limit());
+        }
+        return query.list();
+    }
+
+    private static List<String> withCondition(List<String> conditions, String condition) {
+        List<String> combined = new ArrayList<>(conditions);
+        combined.add(condition);
+        return combined;
+    }
+
+    private List<TicketView> findViewsWhere(String filter, Map<String, Object> params) {
+        try {
+            return transactions.executeReadOnly(session -> {
+                Query<TicketView> query = session.createQuery(VIEW_SELECT + filter + "ORDER BY t.id", TicketView.class);
+                params.forEach(query::setParameter);
+                return query.list();
+            });
+        } catch (Exception e) {
+            String msg = "Error retrieving ticket views for " + params;
+            throw new DataProcessingException(msg, e);
+        }
+    }
+
+    /**
+     * Wraps a forward-only cursor in a stream that clears the session every {@code fetchSize} rows
+     * and closes the cursor and the session when the stream is closed.
+     */
+    private <T> Stream<T> scroll(Session session, Query<T> query) {
+        ScrollableResults<T> results = query
+                .setFetchSize(fetchSize)
+                .scroll(ScrollMode.FORWARD_ONLY);
+
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            private long consumed;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (!results.next()) {
+                    return false;
+                }
+                action.accept(results.get());
+                if (++consumed % fetchSize == 0) {
+                    session.clear();
+                }
+                return true;
+            }
+        };
+
+        return StreamSupport.stream(spliterator, false)
+                .onClose(() -> {
+                    results.close();
+                    session.close();
+                });
+    }
+
+    /**
+     * Opens a dedicated session for streams, which outlive any unit of work: entities are loaded read-only
+     * (no dirty-checking snapshots) and the session is never flushed.
+     */
+    private static Session openReadOnlySession() {
+        Session session = HibernateUtil.getSessionFactory().openSession();
+        session.setDefaultReadOnly(true);
+        session.setHibernateFlushMode(FlushMode.MANUAL);
+        return session;
+    }
+
+    /**
+     * Points the ticket at a new departure planet in one session: one SELECT for the ticket row and one
+     * UPDATE on commit. The planet is attached as a reference, so it is not loaded.
+     */
+    public Optional<Ticket> updateFromPlanet(Long ticketId, Planet newFromPlanet) {
+        try {
+            Ticket ticket = transactions.execute(session -> {
+                Ticket loaded = session.get(Ticket.class, ticketId);
+                if (loaded != null) {
+                    loaded.setFromPlanet(session.getReference(Planet.class, newFromPlanet.getId()));
+                }
+                return loaded;
+            });
+            if (ticket != null) {
+                LOGGER.debug("Updated fromPlanet of ticket {} to {}", ticketId, newFromPlanet.getId());
             }
+            return Optional.ofNullable(ticket);
+        } catch (Exception e) {
             String msg = "Failed to update fromPlanet for ticket " + ticketId;
             throw new DataProcessingException(msg, e);
         }
     }
 
-    public Ticket updateToPlanet(Long ticketId, Planet newToPlanet) {
-        Transaction tx = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            tx = session.beginTransaction();
-            Ticket ticket = session.get(Ticket.class, ticketId);
-            if (ticket == null) {
-                throw new DataProcessingException("Ticket not found for ID: " + ticketId, new NullPointerException());
+    public Optional<Ticket> updateToPlanet(Long ticketId, Planet newToPlanet) {
+        try {
+            Ticket ticket = transactions.execute(session -> {
+                Ticket loaded = session.get(Ticket.class, ticketId);
+                if (loaded != null) {
+                    loaded.setToPlanet(session.getReference(Planet.class, newToPlanet.getId()));
+                }
+                return loaded;
+            });
+            if (ticket != null) {
+                LOGGER.debug("Updated toPlanet of ticket {} to {}", ticketId, newToPlanet.getId());
             }
-            ticket.setToPlanet(newToPlanet);
-            session.merge(ticket);
-            tx.commit();
-            LOGGER.info("Updated toPlanet of ticket {} to {}", ticketId, newToPlanet.getId());
-            return ticket;
+            return Optional.ofNullable(ticket);
         } catch (Exception e) {
-            if (tx != null) {
-                tx.rollback();
-            }
             String msg = "Failed to update toPlanet for ticket " + ticketId;
             throw new DataProcessingException(msg, e);
         }
     }
 
-    public void delete(Ticket ticket) {
-        Transaction tx = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            tx = session.beginTransaction();
-            session.remove(ticket);
-            tx.commit();
-            LOGGER.info("Ticket deleted: {}", ticket.getId());
-        } catch (Exception e) {
-            if (tx != null) {
-                tx.rollback();
+    public int rerouteFromPlanet(Collection<Long> ticketIds, String fromPlanetId) {
+        return reroute("fromPlanet", "toPlanet", ticketIds, fromPlanetId);
+    }
+
+    public int rerouteToPlanet(Collection<Long> ticketIds, String toPlanetId) {
+        return reroute("toPlanet", "fromPlanet", ticketIds, toPlanetId);
+    }
+
+    /**
+     * Bulk-updates one end of many tickets in a single transaction with set-based UPDATE statements
+     * (chunked to keep IN lists bounded). Tickets whose opposite end already is the new planet are
+     * skipped, so a ticket never starts and ends on the same planet.
+     */
+    private int reroute(String attribute, String oppositeAttribute, Collection<Long> ticketIds, String planetId) {
+        List<Long> ids = List.copyOf(ticketIds);
+        try {
+            int updated = transactions.execute(session -> {
+                Planet planet = session.getReference(Planet.class, planetId);
+                int rows = 0;
+                for (int from = 0; from < ids.size(); from += REROUTE_CHUNK_SIZE) {
+                    List<Long> chunk = ids.subList(from, Math.min(from + REROUTE_CHUNK_SIZE, ids.size()));
+                    rows += session.createMutationQuery(
+                                    "UPDATE Ticket t SET t." + attribute + " = :planet " +
+                                            "WHERE t.id IN :ids AND t." + oppositeAttribute + ".id <> :planetId")
+                            .setParameter("planet", planet)
+                            .setParameter("ids", chunk)
+                            .setParameter("planetId", planetId)
+                            .executeUpdate();
+                }
+                return rows;
+            });
+            if (LOGGER.isInfoEnabled()) {
+                LOGGER.info("Rerouted {} of {} tickets: {} = {}", updated, ids.size(), attribute, planetId);
             }
-            String msg = "Error deleting client: " + ticket.getClient().getId();
+            return updated;
+        } catch (Exception e) {
+            String msg = "Failed to reroute " + attribute + " of " + ids.size() + " tickets to " + planetId;
             throw new DataProcessingException(msg, e);
         }
     }
 
-    public void deleteAllByClientId(Long clientId) {
-        Transaction tx = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            tx = session.beginTransaction();
-            session.createMutationQuery("DELETE FROM Ticket t WHERE t.client.id = :clientId")
-                    .setParameter("clientId", clientId)
-                    .executeUpdate();
-            tx.commit();
-            LOGGER.info("Deleted all tickets with clientId = {}", clientId);
+    public void delete(Ticket ticket) {
+        try {
+            transactions.executeWithoutResult(session -> session.remove(session.contains(ticket)
+                    ? ticket
+                    : session.getReference(Ticket.class, ticket.getId())));
+            LOGGER.debug("Ticket deleted: {}", ticket.getId());
         } catch (Exception e) {
-            if (tx != null) {
-                tx.rollback();
-            }
-            String msg = "Failed to delete tickets by clientId: " + clientId;
+            String msg = "Error deleting client: " + ticket.getClient().getId();
             throw new DataProcessingException(msg, e);
         }
     }
 
-    public void deleteAllByFromPlanetId(String fromPlanetId) {
-        Transaction tx = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            tx = session.beginTransaction();
-            session.createMutationQuery("DELETE FROM Ticket t WHERE t.fromPlanet.id = :fromPlanetId")
-                    .setParameter("fromPlanetId", fromPlanetId)
-                    .executeUpdate();
-            tx.commit();
-            LOGGER.info("Deleted all tickets with fromPlanetId = {}", fromPlanetId);
+    /**
+     * Deletes the ticket with one statement, without loading it first. Returns the number of rows deleted,
+     * 0 when there was no such ticket.
+     */
+    public int deleteById(Long id) {
+        try {
+            int deleted = transactions.execute(session ->
+                    session.createMutationQuery("DELETE FROM Ticket WHERE id = :id")
+                            .setParameter("id", id)
+                            .executeUpdate());
+            LOGGER.debug("Ticket {} deleted: {} row(s)", id, deleted);
+            return deleted;
         } catch (Exception e) {
-            if (tx != null) {
-                tx.rollback();
-            }
-            String msg = "Failed to delete tickets by fromPlanetId: " + fromPlanetId;
+            String msg = "Error deleting ticket with id: " + id;
             throw new DataProcessingException(msg, e);
         }
+    }
 
+    public int deleteAllByClientId(Long clientId) {
+        return deleteWhere("t.client.id = :value", clientId, 0);
     }
 
-    public void deleteAllByToPlanetId(String toPlanetId) {
-        Transaction tx = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            tx = session.beginTransaction();
-            session.createMutationQuery("DELETE FROM Ticket t WHERE t.toPlanet.id = :toPlanetId")
-                    .setParameter("toPlanetId", toPlanetId)
-                    .executeUpdate();
-            tx.commit();
-            LOGGER.info("Deleted all tickets with toPlanetId = {}", toPlanetId);
-        } catch (Exception e) {
-            if (tx != null) {
-                tx.rollback();
+    public int deleteAllByClientId(Long clientId, int chunkSize) {
+        return deleteWhere("t.client.id = :value", clientId, chunkSize);
+    }
+
+    public int deleteAllByFromPlanetId(String fromPlanetId) {
+        return deleteWhere("t.fromPlanet.id = :value", fromPlanetId, 0);
+    }
+
+    public int deleteAllByFromPlanetId(String fromPlanetId, int chunkSize) {
+        return deleteWhere("t.fromPlanet.id = :value", fromPlanetId, chunkSize);
+    }
+
+    public int deleteAllByToPlanetId(String toPlanetId) {
+        return deleteWhere("t.toPlanet.id = :value", toPlanetId, 0);
+    }
+
+    public int deleteAllByToPlanetId(String toPlanetId, int chunkSize) {
+        return deleteWhere("t.toPlanet.id = :value", toPlanetId, chunkSize);
+    }
+
+    /**
+     * Set-based delete of every ticket matching the filter. With a positive chunk size, rows are removed
+     * in id-ordered chunks of at most that many rows, each in its own transaction (or in the enclosing
+     * unit of work, if any), so locks and undo stay bounded; otherwise a single DELETE statement is issued.
+     * Each chunk resumes above the last deleted id, so it reads the next range of the V8 (fk, id) index instead
+     * of rescanning or re-sorting everything left. Returns the number of deleted rows.
+     */
+    private int deleteWhere(String filter, Object value, int chunkSize) {
+        int deleted = 0;
+        try {
+            if (chunkSize <= 0) {
+                deleted = transactions.execute(session ->
+                        session.createMutationQuery("DELETE FROM Ticket t WHERE " + filter)
+                                .setParameter("value", value)
+                                .executeUpdate());
+            } else {
+                DeleteChunk chunk = new DeleteChunk(0, 0, 0);
+                do {
+                    long after = chunk.lastId();
+                    chunk = transactions.execute(session -> {
+                        List<Long> ids = session.createQuery("SELECT t.id FROM Ticket t WHERE " + filter
+                                        + " AND t.id > :after ORDER BY t.id", Long.class)
+                                .setParameter("value", value)
+                                .setParameter("after", after)
+                                .setMaxResults(chunkSize)
+                                .list();
+                        if (ids.isEmpty()) {
+                            return new DeleteChunk(after, 0, 0);
+                        }
+                        int rows = session.createMutationQuery("DELETE FROM Ticket t WHERE t.id IN :ids")
+                                .setParameter("ids", ids)
+                                .executeUpdate();
+                        return new DeleteChunk(ids.get(ids.size() - 1), ids.size(), rows);
+                    });
+                    deleted += chunk.rows();
+                } while (chunk.matched() == chunkSize);
+            }
+            if (LOGGER.isInfoEnabled()) {
+                LOGGER.info("Deleted {} tickets where {} ({})", deleted, filter, value);
             }
-            String msg = "Failed to delete tickets by toPlanetId: " + toPlanetId;
+            return deleted;
+        } catch (Exception e) {
+            String msg = "Failed to delete tickets where " + filter + " (" + value + ") after " + deleted + " rows";
             throw new DataProcessingException(msg, e);
         }
+    }
 
+    /**
+     * Loads client, fromPlanet and toPlanet in the same statement as the tickets,
+     * so list queries issue one SELECT regardless of result size.
+     */
+    private static RootGraph<Ticket> associationsGraph(Session session) {
+        return session.createEntityGraph(Ticket.class, Ticket.WITH_CLIENT_AND_PLANETS);
     }
 
+    private record DeleteChunk(long lastId, int matched, int rows) {
+    }
 }
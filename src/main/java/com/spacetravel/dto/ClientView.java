@@ -0,0 +1,13 @@
+package com.spacetravel.dto;
+
+import com.spacetravel.entity.Client;
+
+/**
+ * Detached, serializable view of a client without its ticket collection.
+ */
+public record ClientView(Long id, String name) {
+
+    public static ClientView of(Client client) {
+        return new ClientView(client.getId(), client.getName());
+    }
+}
@@ -0,0 +1,13 @@
+package com.spacetravel.dto;
+
+import com.spacetravel.entity.Planet;
+
+/**
+ * Detached, serializable view of a planet.
+ */
+public record PlanetView(String id, String name) {
+
+    public static PlanetView of(Planet planet) {
+        return new PlanetView(planet.getId(), planet.getName());
+    }
+}
@@ -0,0 +1,143 @@
+package com.spacetravel.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+
+/**
+ * Ticket filters combined with AND and evaluated by one query, or by one query per direction when
+ * {@code planetId} is set. Every filter is optional.
+ *
+ * @param clientId     tickets of this client
+ * @param fromPlanetId tickets departing from this planet
+ * @param toPlanetId   tickets arriving at this planet
+ * @param planetId     tickets departing from or arriving at this planet
+ * @param createdFrom  created at or after this instant
+ * @param createdTo    created before this instant
+ * @param sort         result order
+ * @param limit        maximum number of results; {@code null} for all
+ */
+public record TicketSearch(
+        Long clientId,
+        String fromPlanetId,
+        String toPlanetId,
+        String planetId,
+        Instant createdFrom,
+        Instant createdTo,
+        Sort sort,
+        Integer limit
+) {
+
+    public enum Sort {
+        ID("t.id", Comparator.comparing(TicketView::id)),
+        CREATED("t.createdAt, t.id", Comparator.comparing(TicketView::createdAt).thenComparing(TicketView::id)),
+        CREATED_DESC("t.createdAt DESC, t.id DESC",
+                Comparator.comparing(TicketView::createdAt).thenComparing(TicketView::id).reversed());
+
+        private final String orderBy;
+        private final Comparator<TicketView> comparator;
+
+        Sort(String orderBy, Comparator<TicketView> comparator) {
+            this.orderBy = orderBy;
+            this.comparator = comparator;
+        }
+
+        public String orderBy() {
+            return orderBy;
+        }
+
+        /**
+         * The same order as {@link #orderBy()}, for merging results of several queries in memory.
+         */
+        public Comparator<TicketView> comparator() {
+            return comparator;
+        }
+    }
+
+    public TicketSearch {
+        if (createdFrom != null && createdTo != null && !createdFrom.isBefore(createdTo)) {
+            throw new IllegalArgumentException("Created-at range is empty: " + createdFrom + " .. " + createdTo);
+        }
+        if (limit != null && limit <= 0) {
+            throw new IllegalArgumentException("Search limit must be a positive number");
+        }
+        sort = sort == null ? Sort.ID : sort;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private Long clientId;
+        private String fromPlanetId;
+        private String toPlanetId;
+        private String planetId;
+        private Instant createdFrom;
+        private Instant createdTo;
+        private Sort sort;
+        private Integer limit;
+
+        private Builder() {
+        }
+
+        public Builder client(Long clientId) {
+            this.clientId = clientId;
+            return this;
+        }
+
+        public Builder from(String fromPlanetId) {
+            this.fromPlanetId = fromPlanetId;
+            return this;
+        }
+
+        public Builder to(String toPlanetId) {
+            this.toPlanetId = toPlanetId;
+            return this;
+        }
+
+        public Builder planet(String planetId) {
+            this.planetId = planetId;
+            return this;
+        }
+
+        public Builder createdFrom(Instant createdFrom) {
+            this.createdFrom = createdFrom;
+            return this;
+        }
+
+        public Builder createdTo(Instant createdTo) {
+            this.createdTo = createdTo;
+            return this;
+        }
+
+        /**
+         * Tickets created on {@code since} (UTC) or later.
+         */
+        public Builder since(LocalDate since) {
+            return createdFrom(since.atStartOfDay(ZoneOffset.UTC).toInstant());
+        }
+
+        /**
+         * Tickets created on {@code until} (UTC) or earlier.
+         */
+        public Builder until(LocalDate until) {
+            return createdTo(until.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant());
+        }
+
+        public Builder sort(Sort sort) {
+            this.sort = sort;
+            return this;
+        }
+
+        public Builder limit(Integer limit) {
+            this.limit = limit;
+            return this;
+        }
+
+        public TicketSearch build() {
+            return new TicketSearch(clientId, fromPlanetId, toPlanetId, planetId, createdFrom, createdTo, sort, limit);
+        }
+    }
+}
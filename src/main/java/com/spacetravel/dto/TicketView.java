@@ -0,0 +1,36 @@
+package com.spacetravel.dto;
+
+import com.spacetravel.entity.Ticket;
+
+import java.time.Instant;
+
+/**
+ * Read-only projection of a ticket for listings. Built directly by HQL constructor
+ * expressions, so no entities are hydrated or tracked for dirty checking.
+ */
+public record TicketView(
+        Long id,
+        Long clientId,
+        String clientName,
+        String fromPlanetId,
+        String fromPlanetName,
+        String toPlanetId,
+        String toPlanetName,
+        Instant createdAt
+) {
+
+    /**
+     * Builds the view from a ticket whose client and planets are already loaded.
+     */
+    public static TicketView of(Ticket ticket) {
+        return new TicketView(
+                ticket.getId(),
+                ticket.getClient().getId(),
+                ticket.getClient().getName(),
+                ticket.getFromPlanet().getId(),
+                ticket.getFromPlanet().getName(),
+                ticket.getToPlanet().getId(),
+                ticket.getToPlanet().getName(),
+                ticket.getCreatedAt());
+    }
+}
@@ -1,22 +1,28 @@
 package com.spacetravel.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "client")
 @Table(name = "client")
 public class Client {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "client_seq")
+    @SequenceGenerator(name = "client_seq", sequenceName = "client_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 200)
     private String name;
 
-    @OneToMany(mappedBy = "client", cascade = CascadeType.ALL, orphanRemoval = true)
+    // Tickets are removed by the fk_ticket_client ON DELETE CASCADE (mapped on Ticket.client), never loaded just to be deleted
+    @OneToMany(mappedBy = "client", cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     private Set<Ticket> tickets = new HashSet<>();
 
     public Client() {}
@@ -54,9 +60,4 @@ public class Client {
         tickets.add(ticket);
         ticket.setClient(this);
     }
-
-    public void removeTicket(Ticket ticket) {
-        tickets.remove(ticket);
-        ticket.setClient(null);
-    }
 }
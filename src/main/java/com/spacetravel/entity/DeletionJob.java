@@ -0,0 +1,166 @@
+package com.spacetravel.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+
+/**
+ * A client or planet being deleted in the background: its tickets are removed in id-ordered chunks and
+ * {@link #getLastTicketId() lastTicketId} records how far the deletion got, then the parent row is deleted.
+ */
+@Entity
+@Table(name = "deletion_job")
+public class DeletionJob {
+
+    public enum TargetType { CLIENT, PLANET }
+
+    public enum Status { PENDING, RUNNING, DONE, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "target_type", nullable = false, length = 10)
+    private TargetType targetType;
+
+    @Column(name = "target_id", nullable = false, length = 20)
+    private String targetId;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 10)
+    private Status status = Status.PENDING;
+
+    @Column(name = "tickets_at_start", nullable = false)
+    private long ticketsAtStart;
+
+    @Column(name = "deleted_tickets", nullable = false)
+    private long deletedTickets;
+
+    @Column(name = "last_ticket_id", nullable = false)
+    private long lastTicketId;
+
+    @Column(length = 1000)
+    private String error;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt = Instant.now();
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt = createdAt;
+
+    public DeletionJob() {}
+
+    public DeletionJob(TargetType targetType, String targetId, long ticketsAtStart) {
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.ticketsAtStart = ticketsAtStart;
+    }
+
+    public boolean isFinished() {
+        return status == Status.DONE || status == Status.FAILED;
+    }
+
+    /**
+     * Share of the tickets counted at submission that are deleted, between 0 and 100.
+     */
+    public double getProgressPercent() {
+        if (status == Status.DONE || ticketsAtStart == 0) {
+            return status == Status.DONE ? 100 : 0;
+        }
+        return Math.min(100, deletedTickets * 100.0 / ticketsAtStart);
+    }
+
+    // Getter-Setter
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public TargetType getTargetType() {
+        return targetType;
+    }
+
+    public void setTargetType(TargetType targetType) {
+        this.targetType = targetType;
+    }
+
+    public String getTargetId() {
+        return targetId;
+    }
+
+    public void setTargetId(String targetId) {
+        this.targetId = targetId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public long getTicketsAtStart() {
+        return ticketsAtStart;
+    }
+
+    public void setTicketsAtStart(long ticketsAtStart) {
+        this.ticketsAtStart = ticketsAtStart;
+    }
+
+    public long getDeletedTickets() {
+        return deletedTickets;
+    }
+
+    public void setDeletedTickets(long deletedTickets) {
+        this.deletedTickets = deletedTickets;
+    }
+
+    public long getLastTicketId() {
+        return lastTicketId;
+    }
+
+    public void setLastTicketId(long lastTicketId) {
+        this.lastTicketId = lastTicketId;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        String text = String.format("#%d %s %s: %s, %d/%d tickets deleted (%.1f%%), checkpoint ticket %d, updated %s",
+                id, targetType, targetId, status, deletedTickets, ticketsAtStart, getProgressPercent(), lastTicketId,
+                updatedAt);
+        return error == null ? text : text + ", error: " + error;
+    }
+}
@@ -1,8 +1,15 @@
 package com.spacetravel.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "planet")
+@NaturalIdCache(region = "planet-by-name")
 @Table(name = "planet")
 public class Planet {
 
@@ -10,6 +17,7 @@ public class Planet {
     @Column(length = 10)
     private String id;
 
+    @NaturalId(mutable = true)
     @Column(nullable = false, length = 500)
     private String name;
 
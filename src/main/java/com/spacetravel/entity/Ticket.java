@@ -1,14 +1,30 @@
 package com.spacetravel.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
 import java.time.Instant;
 
 @Entity
-@Table(name = "ticket")
+@NamedEntityGraph(name = Ticket.WITH_CLIENT_AND_PLANETS, attributeNodes = {
+        @NamedAttributeNode("client"),
+        @NamedAttributeNode("fromPlanet"),
+        @NamedAttributeNode("toPlanet")
+})
+@Table(name = "ticket", indexes = {
+        @Index(name = "idx_ticket_client_created", columnList = "client_id, created_at"),
+        @Index(name = "idx_ticket_from_planet_created", columnList = "from_planet_id, created_at"),
+        @Index(name = "idx_ticket_to_planet_created", columnList = "to_planet_id, created_at"),
+        @Index(name = "idx_ticket_created", columnList = "created_at")
+})
 public class Ticket {
 
+    public static final String WITH_CLIENT_AND_PLANETS = "Ticket.withClientAndPlanets";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_seq")
+    @SequenceGenerator(name = "ticket_seq", sequenceName = "ticket_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "created_at", nullable = false)
@@ -16,14 +32,17 @@ public class Ticket {
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "client_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Client client;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "from_planet_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Planet fromPlanet;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "to_planet_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Planet toPlanet;
 
     public Ticket() {}
@@ -1,6 +1,10 @@
 package com.spacetravel.exception;
 
 public class DataProcessingException extends RuntimeException {
+    public DataProcessingException(String message) {
+        super(message);
+    }
+
     public DataProcessingException(String message, Throwable cause) {
         super(message, cause);
     }
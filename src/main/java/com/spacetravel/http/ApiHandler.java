@@ -0,0 +1,178 @@
+package com.spacetravel.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.spacetravel.exception.ClientNotFoundException;
+import com.spacetravel.exception.DuplicatePlanetIdException;
+import com.spacetravel.exception.PlanetNotFoundException;
+import com.spacetravel.exception.TicketNotFoundException;
+import com.spacetravel.util.LoggerUtil;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Base for the JSON resources. Each request first takes one of the server's request slots (waiting at most
+ * {@link ServerSettings#queueTimeoutMs()}, otherwise 503), then runs the route's future with
+ * {@link ServerSettings#requestTimeoutMs()} as deadline (otherwise 504). Service exceptions map to status codes.
+ * <p>
+ * A 504 only stops the wait, not the work: the slot stays taken until the route's future completes, so timed-out
+ * work cannot pile up behind newly admitted requests. A write answered with 504 may therefore still commit.
+ */
+abstract class ApiHandler implements HttpHandler {
+    static final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private static final Logger LOGGER = LoggerUtil.getLogger(ApiHandler.class);
+
+    private final Semaphore slots;
+    private final ServerSettings settings;
+
+    ApiHandler(Semaphore slots, ServerSettings settings) {
+        this.slots = slots;
+        this.settings = settings;
+    }
+
+    /**
+     * Returns the future producing the response body ({@code null} for 204), or {@code null} if no route matches.
+     */
+    abstract CompletableFuture<?> route(ApiRequest request);
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!slots.tryAcquire(settings.queueTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                sendError(exchange, 503, "Server is busy, retry later");
+                return;
+            }
+            CompletableFuture<?> work = null;
+            try {
+                work = start(exchange);
+                if (work != null) {
+                    respond(exchange, work);
+                }
+            } finally {
+                // Known before any response is written, so a failed send cannot release a slot whose work still runs
+                if (work == null || work.isDone()) {
+                    slots.release();
+                } else {
+                    work.whenComplete((body, error) -> slots.release());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sendError(exchange, 503, "Server is shutting down");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Parses and routes the request; returns the route's future, or {@code null} after answering with an error.
+     */
+    private CompletableFuture<?> start(HttpExchange exchange) throws IOException {
+        try {
+            ApiRequest request = parse(exchange);
+            CompletableFuture<?> future = route(request);
+            if (future == null) {
+                sendError(exchange, 404, "No route for " + request.method() + " " + exchange.getRequestURI().getPath());
+            }
+            return future;
+        } catch (RuntimeException e) {
+            sendError(exchange, e);
+            return null;
+        }
+    }
+
+    /**
+     * Waits for the route's future within the request deadline and sends its result.
+     */
+    private void respond(HttpExchange exchange, CompletableFuture<?> future) throws IOException, InterruptedException {
+        try {
+            Object body = future.get(settings.requestTimeoutMs(), TimeUnit.MILLISECONDS);
+            if (body == null) {
+                send(exchange, 204, null);
+            } else {
+                send(exchange, "POST".equalsIgnoreCase(exchange.getRequestMethod()) ? 201 : 200, body);
+            }
+        } catch (TimeoutException e) {
+            // Not cancelled: cancelling would not stop the database work, only hide when it ends
+            sendError(exchange, 504, "Request timed out after " + settings.requestTimeoutMs() + " ms");
+        } catch (ExecutionException e) {
+            sendError(exchange, e.getCause());
+        } catch (RuntimeException e) {
+            sendError(exchange, e);
+        }
+    }
+
+    static <T> T readBody(ApiRequest request, Class<T> type) {
+        try {
+            T body = MAPPER.readValue(request.body(), type);
+            if (body == null) {
+                throw new IllegalArgumentException("Request body must not be empty");
+            }
+            return body;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed JSON body: " + e.getOriginalMessage());
+        }
+    }
+
+    private static ApiRequest parse(HttpExchange exchange) throws IOException {
+        String context = exchange.getHttpContext().getPath();
+        String path = exchange.getRequestURI().getPath().substring(context.length());
+        List<String> segments = Arrays.stream(path.split("/")).filter(s -> !s.isEmpty()).toList();
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        return new ApiRequest(exchange.getRequestMethod().toUpperCase(), segments,
+                ApiRequest.parseQuery(exchange.getRequestURI().getRawQuery()), body);
+    }
+
+    private static void sendError(HttpExchange exchange, Throwable error) throws IOException {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        int status;
+        if (cause instanceof ClientNotFoundException
+                || cause instanceof PlanetNotFoundException
+                || cause instanceof TicketNotFoundException) {
+            status = 404;
+        } else if (cause instanceof DuplicatePlanetIdException) {
+            status = 409;
+        } else if (cause instanceof IllegalArgumentException) {
+            status = 400;
+        } else {
+            LOGGER.error("Request {} {} failed", exchange.getRequestMethod(), exchange.getRequestURI(), cause);
+            sendError(exchange, 500, "Internal server error");
+            return;
+        }
+        sendError(exchange, status, cause.getMessage());
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        send(exchange, status, Map.of("status", status, "error", message == null ? "" : message));
+    }
+
+    private static void send(HttpExchange exchange, int status, Object body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        byte[] bytes = MAPPER.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+}
@@ -0,0 +1,78 @@
+package com.spacetravel.http;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Parsed request: method, path segments below the resource (e.g. {@code ["42"]} for {@code /clients/42}),
+ * query parameters and the raw body.
+ */
+record ApiRequest(String method, List<String> path, Map<String, String> query, byte[] body) {
+
+    static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isBlank()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            query.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    boolean is(String expectedMethod, int segments) {
+        return method.equals(expectedMethod) && path.size() == segments;
+    }
+
+    String segment(int index) {
+        return path.get(index);
+    }
+
+    Long longSegment(int index) {
+        return parseLong(path.get(index), "id");
+    }
+
+    Optional<String> param(String name) {
+        return Optional.ofNullable(query.get(name)).filter(value -> !value.isBlank());
+    }
+
+    Optional<Long> longParam(String name) {
+        return param(name).map(value -> parseLong(value, name));
+    }
+
+    Optional<Integer> intParam(String name) {
+        return longParam(name).map(value -> {
+            if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(name + " is out of range: " + value);
+            }
+            return value.intValue();
+        });
+    }
+
+    Optional<LocalDate> dateParam(String name) {
+        return param(name).map(value -> {
+            try {
+                return LocalDate.parse(value);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException(name + " must be a date in YYYY-MM-DD format: " + value);
+            }
+        });
+    }
+
+    private static Long parseLong(String value, String name) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a number: " + value);
+        }
+    }
+}
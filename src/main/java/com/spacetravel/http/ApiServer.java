@@ -0,0 +1,148 @@
+package com.spacetravel.http;
+
+import com.spacetravel.config.DatabaseExecutor;
+import com.spacetravel.config.HibernateUtil;
+import com.spacetravel.metrics.Metrics;
+import com.spacetravel.service.AsyncClientCrudService;
+import com.spacetravel.service.AsyncClientCrudServiceImpl;
+import com.spacetravel.service.AsyncPlanetCrudService;
+import com.spacetravel.service.AsyncPlanetCrudServiceImpl;
+import com.spacetravel.service.AsyncTicketCrudService;
+import com.spacetravel.service.AsyncTicketCrudServiceImpl;
+import com.spacetravel.service.Services;
+import com.spacetravel.util.LoggerUtil;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Embedded JSON API on the JDK HTTP server. Exchanges are handled on virtual threads; at most
+ * {@link ServerSettings#maxConcurrentRequests()} run at once and the rest are shed with 503 after a short wait.
+ * HTTP/1.1 keep-alive is on, with idle connections limited by the {@code http.idle-timeout-seconds} and
+ * {@code http.max-idle-connections} settings.
+ */
+public class ApiServer implements AutoCloseable {
+    private static final Logger LOGGER = LoggerUtil.getLogger(ApiServer.class);
+    private static final int STOP_GRACE_SECONDS = 2;
+
+    private final HttpServer server;
+    private final ExecutorService workers;
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    public ApiServer(ServerSettings settings, AsyncClientCrudService clients, AsyncPlanetCrudService planets,
+                     AsyncTicketCrudService tickets) {
+        configureConnections(settings);
+        try {
+            server = HttpServer.create(new InetSocketAddress(settings.port()), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to bind HTTP server to port " + settings.port(), e);
+        }
+        workers = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(workers);
+
+        Semaphore slots = new Semaphore(settings.maxConcurrentRequests(), true);
+        server.createContext("/clients", new ClientHandler(slots, settings, clients));
+        server.createContext("/planets", new PlanetHandler(slots, settings, planets));
+        server.createContext("/tickets", new TicketHandler(slots, settings, tickets));
+        server.createContext("/health", new ApiHandler(slots, settings) {
+            @Override
+            CompletableFuture<?> route(ApiRequest request) {
+                if (!request.is("GET", 0)) {
+                    return null;
+                }
+                Map<String, Object> health = new LinkedHashMap<>();
+                health.put("status", "UP");
+                HibernateUtil.getPoolMetrics().ifPresent(metrics -> health.put("pool", metrics));
+                return CompletableFuture.completedFuture(health);
+            }
+        });
+        server.createContext("/metrics", ApiServer::sendMetrics);
+    }
+
+    /**
+     * Prometheus text exposition of the operation timers; empty when {@code metrics.enabled} is off.
+     */
+    private static void sendMetrics(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = Metrics.toPrometheus().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        }
+    }
+
+    /**
+     * Wires the services the same way the CLI does, on top of the given executor.
+     */
+    public static ApiServer create(ServerSettings settings, DatabaseExecutor executor) {
+        Services services = Services.create();
+        return new ApiServer(settings,
+                new AsyncClientCrudServiceImpl(services.clientService(), executor),
+                new AsyncPlanetCrudServiceImpl(services.planetService(), executor),
+                new AsyncTicketCrudServiceImpl(services.ticketService(), executor));
+    }
+
+    public void start() {
+        server.start();
+        LOGGER.info("HTTP API listening on port {}", getPort());
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Blocks until {@link #close()} is called.
+     */
+    public void awaitStop() throws InterruptedException {
+        stopped.await();
+    }
+
+    /**
+     * Stops accepting connections, gives in-flight exchanges a short grace period and releases the workers.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        server.stop(STOP_GRACE_SECONDS);
+        workers.close();
+        stopped.countDown();
+        LOGGER.info("HTTP API stopped.");
+    }
+
+    /**
+     * The JDK server reads its connection limits from system properties once, when the first server is created.
+     */
+    private static void configureConnections(ServerSettings settings) {
+        setIfAbsent("sun.net.httpserver.idleInterval", settings.idleTimeoutSeconds());
+        setIfAbsent("sun.net.httpserver.maxIdleConnections", settings.maxIdleConnections());
+        // Bounds how long a client may take to send a request, so slow clients cannot hold connections open
+        setIfAbsent("sun.net.httpserver.maxReqTime", Math.max(1, settings.requestTimeoutMs() / 1000));
+    }
+
+    private static void setIfAbsent(String key, long value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, String.valueOf(value));
+        }
+    }
+}
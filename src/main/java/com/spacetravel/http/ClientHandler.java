@@ -0,0 +1,44 @@
+package com.spacetravel.http;
+
+import com.spacetravel.dto.ClientView;
+import com.spacetravel.service.AsyncClientCrudService;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+/**
+ * {@code /clients}: list, get, create, rename and delete clients.
+ */
+class ClientHandler extends ApiHandler {
+
+    private final AsyncClientCrudService clients;
+
+    ClientHandler(Semaphore slots, ServerSettings settings, AsyncClientCrudService clients) {
+        super(slots, settings);
+        this.clients = clients;
+    }
+
+    @Override
+    CompletableFuture<?> route(ApiRequest request) {
+        if (request.is("GET", 0)) {
+            return clients.findAll().thenApply(list -> list.stream().map(ClientView::of).toList());
+        }
+        if (request.is("GET", 1)) {
+            return clients.findById(request.longSegment(0)).thenApply(ClientView::of);
+        }
+        if (request.is("POST", 0)) {
+            return clients.create(readBody(request, ClientRequest.class).name()).thenApply(ClientView::of);
+        }
+        if (request.is("PUT", 1)) {
+            return clients.update(request.longSegment(0), readBody(request, ClientRequest.class).name())
+                    .thenApply(ClientView::of);
+        }
+        if (request.is("DELETE", 1)) {
+            return clients.delete(request.longSegment(0));
+        }
+        return null;
+    }
+
+    record ClientRequest(String name) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.spacetravel.http;
+
+import com.spacetravel.dto.PlanetView;
+import com.spacetravel.service.AsyncPlanetCrudService;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+/**
+ * {@code /planets}: list (optionally {@code ?name=}), get, create, rename and delete planets.
+ */
+class PlanetHandler extends ApiHandler {
+
+    private final AsyncPlanetCrudService planets;
+
+    PlanetHandler(Semaphore slots, ServerSettings settings, AsyncPlanetCrudService planets) {
+        super(slots, settings);
+        this.planets = planets;
+    }
+
+    @Override
+    CompletableFuture<?> route(ApiRequest request) {
+        if (request.is("GET", 0)) {
+            return request.param("name")
+                    .<CompletableFuture<?>>map(name -> planets.findByName(name).thenApply(PlanetView::of))
+                    .orElseGet(() -> planets.findAll().thenApply(list -> list.stream().map(PlanetView::of).toList()));
+        }
+        if (request.is("GET", 1)) {
+            return planets.findById(request.segment(0)).thenApply(PlanetView::of);
+        }
+        if (request.is("POST", 0)) {
+            PlanetRequest body = readBody(request, PlanetRequest.class);
+            return planets.create(body.id(), body.name()).thenApply(PlanetView::of);
+        }
+        if (request.is("PUT", 1)) {
+            return planets.update(request.segment(0), readBody(request, PlanetRequest.class).name())
+                    .thenApply(PlanetView::of);
+        }
+        if (request.is("DELETE", 1)) {
+            return planets.delete(request.segment(0));
+        }
+        return null;
+    }
+
+    record PlanetRequest(String id, String name) {
+    }
+}
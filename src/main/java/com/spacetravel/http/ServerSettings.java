@@ -0,0 +1,56 @@
+package com.spacetravel.http;
+
+import com.spacetravel.config.AppProperties;
+import com.spacetravel.exception.ConfigurationException;
+
+import java.util.Properties;
+
+/**
+ * HTTP server tuning read from the {@code http.*} properties.
+ *
+ * @param port                  listen port; 0 picks a free one
+ * @param maxConcurrentRequests requests handled at once; further requests wait up to {@code queueTimeoutMs}
+ *                              for a slot and are then rejected with 503
+ * @param queueTimeoutMs        how long a request may wait for a free slot
+ * @param requestTimeoutMs      how long a request may run before it is answered with 504; the work keeps its slot
+ *                              until it finishes
+ * @param idleTimeoutSeconds    how long an idle keep-alive connection is kept open
+ * @param maxIdleConnections    keep-alive connections kept open at most
+ */
+public record ServerSettings(
+        int port,
+        int maxConcurrentRequests,
+        long queueTimeoutMs,
+        long requestTimeoutMs,
+        long idleTimeoutSeconds,
+        int maxIdleConnections
+) {
+    public static final String PORT = "http.port";
+    public static final String MAX_CONCURRENT_REQUESTS = "http.max-concurrent-requests";
+    public static final String QUEUE_TIMEOUT_MS = "http.queue-timeout-ms";
+    public static final String REQUEST_TIMEOUT_MS = "http.request-timeout-ms";
+    public static final String IDLE_TIMEOUT_SECONDS = "http.idle-timeout-seconds";
+    public static final String MAX_IDLE_CONNECTIONS = "http.max-idle-connections";
+
+    public ServerSettings {
+        if (port > 65_535) {
+            throw new ConfigurationException(PORT + " must be a valid port: " + port);
+        }
+        if (maxConcurrentRequests <= 0) {
+            throw new ConfigurationException(MAX_CONCURRENT_REQUESTS + " must be a positive number");
+        }
+        if (requestTimeoutMs <= 0) {
+            throw new ConfigurationException(REQUEST_TIMEOUT_MS + " must be a positive number");
+        }
+    }
+
+    public static ServerSettings from(Properties properties) {
+        return new ServerSettings(
+                AppProperties.getInt(properties, PORT, 8080),
+                AppProperties.getInt(properties, MAX_CONCURRENT_REQUESTS, 64),
+                AppProperties.getLong(properties, QUEUE_TIMEOUT_MS, 200),
+                AppProperties.getLong(properties, REQUEST_TIMEOUT_MS, 5_000),
+                AppProperties.getLong(properties, IDLE_TIMEOUT_SECONDS, 30),
+                AppProperties.getInt(properties, MAX_IDLE_CONNECTIONS, 200));
+    }
+}
@@ -0,0 +1,106 @@
+package com.spacetravel.http;
+
+import com.spacetravel.dto.TicketView;
+import com.spacetravel.service.AsyncTicketCrudService;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+/**
+ * {@code /tickets}: filtered and paged listings, get, create, re-planet and delete tickets.
+ * <ul>
+ *     <li>{@code GET /tickets?clientId=|fromPlanet=|toPlanet=|date=} – all matching tickets</li>
+ *     <li>{@code GET /tickets?afterId=&limit=} – one keyset page</li>
+ *     <li>{@code PATCH /tickets/{id}} with {@code fromPlanetId} and/or {@code toPlanetId}</li>
+ *     <li>{@code DELETE /tickets?clientId=|fromPlanet=|toPlanet=} – bulk delete, returns the count</li>
+ * </ul>
+ */
+class TicketHandler extends ApiHandler {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+
+    private final AsyncTicketCrudService tickets;
+
+    TicketHandler(Semaphore slots, ServerSettings settings, AsyncTicketCrudService tickets) {
+        super(slots, settings);
+        this.tickets = tickets;
+    }
+
+    @Override
+    CompletableFuture<?> route(ApiRequest request) {
+        if (request.is("GET", 0)) {
+            return list(request);
+        }
+        if (request.is("GET", 1)) {
+            return tickets.findById(request.longSegment(0)).thenApply(TicketView::of);
+        }
+        if (request.is("POST", 0)) {
+            return create(readBody(request, TicketRequest.class));
+        }
+        if (request.is("PATCH", 1)) {
+            return update(request.longSegment(0), readBody(request, TicketRequest.class));
+        }
+        if (request.is("DELETE", 1)) {
+            return tickets.delete(request.longSegment(0));
+        }
+        if (request.is("DELETE", 0)) {
+            return deleteAll(request);
+        }
+        return null;
+    }
+
+    private CompletableFuture<?> list(ApiRequest request) {
+        if (request.param("clientId").isPresent()) {
+            return tickets.findViewsByClient(request.longParam("clientId").orElseThrow());
+        }
+        if (request.param("fromPlanet").isPresent()) {
+            return tickets.findViewsByFromPlanet(request.param("fromPlanet").orElseThrow());
+        }
+        if (request.param("toPlanet").isPresent()) {
+            return tickets.findViewsByToPlanet(request.param("toPlanet").orElseThrow());
+        }
+        if (request.param("date").isPresent()) {
+            return tickets.findViewsByDate(request.dateParam("date").orElseThrow());
+        }
+        return tickets.findViewPage(request.longParam("afterId").orElse(null),
+                request.intParam("limit").orElse(DEFAULT_PAGE_SIZE));
+    }
+
+    private CompletableFuture<TicketView> create(TicketRequest body) {
+        if (body.clientId() == null || body.fromPlanetId() == null || body.toPlanetId() == null) {
+            throw new IllegalArgumentException("clientId, fromPlanetId and toPlanetId are required");
+        }
+        if (body.fromPlanetId().equals(body.toPlanetId())) {
+            throw new IllegalArgumentException("fromPlanetId and toPlanetId must differ");
+        }
+        // Created by reference, without loading client and planets; unknown ids fail on the foreign keys (404)
+        return tickets.create(body.clientId(), body.fromPlanetId(), body.toPlanetId())
+                .thenCompose(created -> tickets.findById(created.getId()))
+                .thenApply(TicketView::of);
+    }
+
+    private CompletableFuture<TicketView> update(Long id, TicketRequest body) {
+        // Both ends change in one transaction; the updated entity carries lazy references only, so read the view back
+        return tickets.updatePlanets(id, body.fromPlanetId(), body.toPlanetId())
+                .thenCompose(updated -> tickets.findById(id))
+                .thenApply(TicketView::of);
+    }
+
+    private CompletableFuture<Map<String, Integer>> deleteAll(ApiRequest request) {
+        CompletableFuture<Integer> deleted;
+        if (request.param("clientId").isPresent()) {
+            deleted = tickets.deleteAllByClientId(request.longParam("clientId").orElseThrow());
+        } else if (request.param("fromPlanet").isPresent()) {
+            deleted = tickets.deleteAllByFromPlanetId(request.param("fromPlanet").orElseThrow());
+        } else if (request.param("toPlanet").isPresent()) {
+            deleted = tickets.deleteAllByToPlanetId(request.param("toPlanet").orElseThrow());
+        } else {
+            throw new IllegalArgumentException("clientId, fromPlanet or toPlanet is required for a bulk delete");
+        }
+        return deleted.thenApply(count -> Map.of("deleted", count));
+    }
+
+    record TicketRequest(Long clientId, String fromPlanetId, String toPlanetId) {
+    }
+}
@@ -0,0 +1,209 @@
+package com.spacetravel.logging;
+
+import org.slf4j.event.Level;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hands log events from application threads to one writer thread through a bounded ring buffer.
+ * <p>
+ * The writer drains up to {@code batchSize} events at a time, formats them into a reused buffer and writes the
+ * batch to the channel with a single call. When the buffer is full, events are dropped (and the count is reported
+ * in the next batch) or the caller blocks, depending on the {@link LogSettings.OverflowPolicy}.
+ */
+final class AsyncLogWriter implements AutoCloseable {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
+            .withZone(ZoneId.systemDefault());
+    private static final long POLL_MILLIS = 100;
+
+    private final BlockingQueue<LogEvent> buffer;
+    private final LogSettings.OverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final WritableByteChannel channel;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread worker;
+    private final StringBuilder text = new StringBuilder(16 * 1024);
+    // Lone surrogates (e.g. from client names posted over HTTP) become '?' instead of ending the batch
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private ByteBuffer bytes = ByteBuffer.allocateDirect(64 * 1024);
+    private volatile boolean running = true;
+
+    AsyncLogWriter(LogSettings settings) {
+        this(settings, openChannel(settings.file()));
+    }
+
+    AsyncLogWriter(LogSettings settings, WritableByteChannel channel) {
+        this.buffer = new ArrayBlockingQueue<>(settings.bufferSize());
+        this.overflowPolicy = settings.overflowPolicy();
+        this.batchSize = settings.batchSize();
+        this.channel = channel;
+        this.worker = new Thread(this::drainLoop, "async-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    void publish(LogEvent event) {
+        if (!running) {
+            // Late events (e.g. from other shutdown hooks) are written synchronously
+            write(List.of(event));
+            return;
+        }
+        if (overflowPolicy == LogSettings.OverflowPolicy.DROP) {
+            if (!buffer.offer(event)) {
+                dropped.increment();
+            }
+            return;
+        }
+        try {
+            buffer.put(event);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped.increment();
+        }
+    }
+
+    long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Stops the writer thread after it has written everything still in the buffer. The channel stays open for
+     * late events and is released by the JVM.
+     */
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<LogEvent> rest = new ArrayList<>();
+        buffer.drainTo(rest);
+        if (!rest.isEmpty()) {
+            write(rest);
+        }
+    }
+
+    private void drainLoop() {
+        List<LogEvent> batch = new ArrayList<>(batchSize);
+        long reportedDrops = 0;
+        while (running || !buffer.isEmpty()) {
+            try {
+                LogEvent first = buffer.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                long drops = dropped.sum();
+                if (drops > reportedDrops) {
+                    batch.add(new LogEvent(System.currentTimeMillis(), Level.WARN,
+                            AsyncLogWriter.class.getName(), (drops - reportedDrops) + " log events dropped, buffer full", null));
+                    reportedDrops = drops;
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private synchronized void write(List<LogEvent> events) {
+        text.setLength(0);
+        for (LogEvent event : events) {
+            format(event);
+        }
+        try {
+            encode();
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to write " + events.size() + " log events: " + e.getMessage());
+        }
+    }
+
+    private void format(LogEvent event) {
+        TIMESTAMP.formatTo(Instant.ofEpochMilli(event.epochMillis()), text);
+        text.append(' ').append(event.level()).append(' ').append(event.loggerName())
+                .append(" - ").append(event.message()).append(System.lineSeparator());
+        if (event.error() != null) {
+            StringWriter trace = new StringWriter();
+            event.error().printStackTrace(new PrintWriter(trace));
+            text.append(trace);
+        }
+    }
+
+    private void encode() {
+        CharBuffer chars = CharBuffer.wrap(text);
+        bytes.clear();
+        encoder.reset();
+        while (true) {
+            CoderResult result = encoder.encode(chars, bytes, true);
+            if (result.isOverflow()) {
+                ByteBuffer larger = ByteBuffer.allocateDirect(bytes.capacity() * 2);
+                bytes.flip();
+                larger.put(bytes);
+                bytes = larger;
+                continue;
+            }
+            if (result.isError()) {
+                // Not reached with REPLACE; skipping the bad input still keeps the rest of the batch
+                chars.position(chars.position() + result.length());
+                continue;
+            }
+            encoder.flush(bytes);
+            break;
+        }
+        bytes.flip();
+    }
+
+    private static WritableByteChannel openChannel(String file) {
+        if (file == null) {
+            return Channels.newChannel(new FileOutputStream(FileDescriptor.out));
+        }
+        try {
+            Path path = Path.of(file).toAbsolutePath();
+            Files.createDirectories(path.getParent());
+            return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open log file " + file, e);
+        }
+    }
+}
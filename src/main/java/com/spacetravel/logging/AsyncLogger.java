@@ -0,0 +1,61 @@
+package com.spacetravel.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.LegacyAbstractLogger;
+import org.slf4j.helpers.MessageFormatter;
+
+/**
+ * SLF4J logger that formats enabled events on the calling thread and hands them to the {@link AsyncLogWriter}.
+ * Level checks read one field, so disabled statements with up to two arguments allocate nothing.
+ */
+class AsyncLogger extends LegacyAbstractLogger {
+
+    private final transient AsyncLogWriter writer;
+    private final int threshold;
+
+    AsyncLogger(String name, Level level, AsyncLogWriter writer) {
+        this.name = name;
+        this.threshold = level.toInt();
+        this.writer = writer;
+    }
+
+    @Override
+    public boolean isTraceEnabled() {
+        return threshold <= Level.TRACE.toInt();
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return threshold <= Level.DEBUG.toInt();
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return threshold <= Level.INFO.toInt();
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return threshold <= Level.WARN.toInt();
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return threshold <= Level.ERROR.toInt();
+    }
+
+    @Override
+    protected String getFullyQualifiedCallerName() {
+        return null;
+    }
+
+    @Override
+    protected void handleNormalizedLoggingCall(Level level, Marker marker, String messagePattern, Object[] arguments,
+                                               Throwable throwable) {
+        String message = arguments == null || arguments.length == 0
+                ? messagePattern
+                : MessageFormatter.basicArrayFormat(messagePattern, arguments);
+        writer.publish(new LogEvent(System.currentTimeMillis(), level, name, message, throwable));
+    }
+}
@@ -0,0 +1,24 @@
+package com.spacetravel.logging;
+
+import org.slf4j.ILoggerFactory;
+import org.slf4j.Logger;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+class AsyncLoggerFactory implements ILoggerFactory {
+
+    private final ConcurrentMap<String, Logger> loggers = new ConcurrentHashMap<>();
+    private final LogSettings settings;
+    private final AsyncLogWriter writer;
+
+    AsyncLoggerFactory(LogSettings settings, AsyncLogWriter writer) {
+        this.settings = settings;
+        this.writer = writer;
+    }
+
+    @Override
+    public Logger getLogger(String name) {
+        return loggers.computeIfAbsent(name, loggerName -> new AsyncLogger(loggerName, settings.level(), writer));
+    }
+}
@@ -0,0 +1,48 @@
+package com.spacetravel.logging;
+
+import org.slf4j.ILoggerFactory;
+import org.slf4j.IMarkerFactory;
+import org.slf4j.helpers.BasicMarkerFactory;
+import org.slf4j.helpers.BasicMDCAdapter;
+import org.slf4j.spi.MDCAdapter;
+import org.slf4j.spi.SLF4JServiceProvider;
+
+/**
+ * SLF4J backend selected with {@code log.async=true} (see {@code LoggerUtil}). Events go through a bounded ring
+ * buffer to a single writer thread that appends them in batches to {@code log.file}, or to stdout when no file is
+ * set. A shutdown hook writes whatever is still buffered.
+ */
+public class AsyncLoggingProvider implements SLF4JServiceProvider {
+
+    private AsyncLoggerFactory loggerFactory;
+    private final IMarkerFactory markerFactory = new BasicMarkerFactory();
+    private final MDCAdapter mdcAdapter = new BasicMDCAdapter();
+
+    @Override
+    public ILoggerFactory getLoggerFactory() {
+        return loggerFactory;
+    }
+
+    @Override
+    public IMarkerFactory getMarkerFactory() {
+        return markerFactory;
+    }
+
+    @Override
+    public MDCAdapter getMDCAdapter() {
+        return mdcAdapter;
+    }
+
+    @Override
+    public String getRequestedApiVersion() {
+        return "2.0.99";
+    }
+
+    @Override
+    public void initialize() {
+        LogSettings settings = LogSettings.load();
+        AsyncLogWriter writer = new AsyncLogWriter(settings);
+        Runtime.getRuntime().addShutdownHook(new Thread(writer::close, "async-log-flush"));
+        loggerFactory = new AsyncLoggerFactory(settings, writer);
+    }
+}
@@ -0,0 +1,9 @@
+package com.spacetravel.logging;
+
+import org.slf4j.event.Level;
+
+/**
+ * One formatted log line waiting in the ring buffer.
+ */
+record LogEvent(long epochMillis, Level level, String loggerName, String message, Throwable error) {
+}
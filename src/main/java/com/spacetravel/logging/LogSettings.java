@@ -0,0 +1,53 @@
+package com.spacetravel.logging;
+
+import org.slf4j.event.Level;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Logging settings from the {@code log.*} keys of the properties file named by {@code config.file}; system
+ * properties with the same names take precedence. Read without logging, since logging is not set up yet.
+ */
+public record LogSettings(Level level, boolean async, String file, int bufferSize, int batchSize,
+                          OverflowPolicy overflowPolicy) {
+
+    public static final String LEVEL = "log.level";
+    public static final String ASYNC = "log.async";
+    public static final String FILE = "log.file";
+    public static final String BUFFER_SIZE = "log.buffer-size";
+    public static final String BATCH_SIZE = "log.batch-size";
+    public static final String OVERFLOW = "log.overflow";
+
+    /**
+     * What a caller does when the ring buffer is full: drop the event (counted and reported later) or wait.
+     */
+    public enum OverflowPolicy { DROP, BLOCK }
+
+    public static LogSettings load() {
+        Properties file = new Properties();
+        String configFile = System.getProperty("config.file", "application.properties");
+        try (InputStream input = LogSettings.class.getClassLoader().getResourceAsStream(configFile)) {
+            if (input != null) {
+                file.load(input);
+            }
+        } catch (IOException e) {
+            // Fall back to defaults; the application reports a broken config file once logging is up
+        }
+
+        String logFile = get(file, FILE, "");
+        return new LogSettings(
+                Level.valueOf(get(file, LEVEL, "info").toUpperCase(Locale.ROOT)),
+                Boolean.parseBoolean(get(file, ASYNC, "false")),
+                logFile.isBlank() ? null : logFile,
+                Math.max(Integer.parseInt(get(file, BUFFER_SIZE, "8192")), 16),
+                Math.max(Integer.parseInt(get(file, BATCH_SIZE, "256")), 1),
+                OverflowPolicy.valueOf(get(file, OVERFLOW, "drop").toUpperCase(Locale.ROOT)));
+    }
+
+    private static String get(Properties file, String key, String defaultValue) {
+        return System.getProperty(key, file.getProperty(key, defaultValue)).trim();
+    }
+}
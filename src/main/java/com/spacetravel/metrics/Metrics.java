@@ -0,0 +1,204 @@
+package com.spacetravel.metrics;
+
+import com.spacetravel.config.AppProperties;
+import com.spacetravel.util.LoggerUtil;
+import org.slf4j.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.stream.BaseStream;
+
+/**
+ * Process-wide registry of operation {@link Timer timers}, configured with the {@code metrics.*} keys.
+ * <p>
+ * When {@code metrics.enabled} is not {@code true}, {@link #instrument} returns the target itself and
+ * {@link #time} just calls the supplier, so disabled metrics cost one static boolean check.
+ * Enabled timers are registered as MBeans under {@value #JMX_DOMAIN} (unless {@code metrics.jmx=false}) and can be
+ * rendered in the Prometheus text format.
+ */
+public final class Metrics {
+    private static final Logger LOGGER = LoggerUtil.getLogger(Metrics.class);
+
+    public static final String ENABLED = "metrics.enabled";
+    public static final String JMX = "metrics.jmx";
+    public static final String JMX_DOMAIN = "com.spacetravel";
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final Properties SETTINGS = AppProperties.load();
+    private static final boolean IS_ENABLED = Boolean.parseBoolean(SETTINGS.getProperty(ENABLED, "false"));
+    private static final boolean JMX_ENABLED = IS_ENABLED && Boolean.parseBoolean(SETTINGS.getProperty(JMX, "true"));
+    private static final ConcurrentMap<String, Timer> TIMERS = new ConcurrentHashMap<>();
+
+    private static MetricsReporter reporter;
+
+    private Metrics() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static boolean isEnabled() {
+        return IS_ENABLED;
+    }
+
+    public static Timer timer(String name) {
+        return TIMERS.computeIfAbsent(name, Metrics::register);
+    }
+
+    public static List<Timer> timers() {
+        return TIMERS.values().stream()
+                .sorted(Comparator.comparing(Timer::getName))
+                .toList();
+    }
+
+    public static <T> T time(String name, Supplier<T> work) {
+        if (!IS_ENABLED) {
+            return work.get();
+        }
+        long start = System.nanoTime();
+        boolean failed = true;
+        T result = null;
+        try {
+            result = work.get();
+            failed = false;
+            return result;
+        } finally {
+            timer(name).record(System.nanoTime() - start, rowCount(result), failed);
+        }
+    }
+
+    /**
+     * Wraps {@code target} in a proxy that times every call of the {@code api} interface as
+     * {@code <prefix>.<method>} and counts the rows it returns. Returns {@code target} when metrics are disabled.
+     */
+    public static <T> T instrument(Class<T> api, T target, String prefix) {
+        if (!IS_ENABLED) {
+            return target;
+        }
+        Object proxy = Proxy.newProxyInstance(api.getClassLoader(), new Class<?>[]{api}, (instance, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return method.invoke(target, args);
+            }
+            return time(prefix + "." + method.getName(), () -> {
+                try {
+                    return method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw rethrow(e.getCause());
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        });
+        return api.cast(proxy);
+    }
+
+    /**
+     * Starts the periodic dump configured with {@code metrics.dump-interval-seconds}; does nothing when metrics
+     * are disabled or the interval is 0.
+     */
+    public static synchronized void startReporter() {
+        long intervalSeconds = AppProperties.getLong(SETTINGS, MetricsReporter.INTERVAL_SECONDS, 0);
+        if (!IS_ENABLED || intervalSeconds == 0 || reporter != null) {
+            return;
+        }
+        reporter = new MetricsReporter(intervalSeconds, SETTINGS.getProperty(MetricsReporter.FILE));
+        reporter.start();
+    }
+
+    public static synchronized void shutdown() {
+        if (reporter != null) {
+            reporter.close();
+            reporter = null;
+        }
+    }
+
+    /**
+     * All timers as Prometheus summaries in seconds, plus error and row counters.
+     */
+    public static String toPrometheus() {
+        StringBuilder text = new StringBuilder(4096);
+        List<Timer> timers = timers();
+        text.append("# HELP spacetravel_operation_seconds Latency of DAO, service and transaction operations.\n")
+                .append("# TYPE spacetravel_operation_seconds summary\n");
+        for (Timer timer : timers) {
+            String label = "operation=\"" + timer.getName() + "\"";
+            for (double quantile : QUANTILES) {
+                sample(text, "spacetravel_operation_seconds", label + ",quantile=\"" + quantile + "\"",
+                        timer.getPercentileMicros(quantile * 100) / 1e6);
+            }
+            sample(text, "spacetravel_operation_seconds_sum", label, timer.getTotalNanos() / 1e9);
+            sample(text, "spacetravel_operation_seconds_count", label, timer.getCount());
+        }
+        text.append("# HELP spacetravel_operation_errors_total Operations that threw an exception.\n")
+                .append("# TYPE spacetravel_operation_errors_total counter\n");
+        timers.forEach(timer -> sample(text, "spacetravel_operation_errors_total",
+                "operation=\"" + timer.getName() + "\"", timer.getErrors()));
+        text.append("# HELP spacetravel_operation_rows_total Rows returned or affected by operations.\n")
+                .append("# TYPE spacetravel_operation_rows_total counter\n");
+        timers.forEach(timer -> sample(text, "spacetravel_operation_rows_total",
+                "operation=\"" + timer.getName() + "\"", timer.getRows()));
+        return text.toString();
+    }
+
+    private static void sample(StringBuilder text, String metric, String labels, double value) {
+        text.append(metric).append('{').append(labels).append("} ")
+                .append(String.format(Locale.ROOT, "%.9g", value)).append('\n');
+    }
+
+    /**
+     * Collections count their size, optionals 0 or 1, {@code int} results (bulk updates and deletes) their value
+     * and any other entity 1. Streams, other numbers and void results count 0.
+     */
+    private static long rowCount(Object result) {
+        if (result == null || result instanceof Boolean || result instanceof BaseStream<?, ?>) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Integer affected) {
+            return affected;
+        }
+        return result instanceof Number ? 0 : 1;
+    }
+
+    private static Timer register(String name) {
+        Timer timer = new Timer(name);
+        if (JMX_ENABLED) {
+            try {
+                MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+                ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=Timer,name=" + ObjectName.quote(name));
+                if (!server.isRegistered(objectName)) {
+                    server.registerMBean(timer, objectName);
+                }
+            } catch (JMException e) {
+                LOGGER.warn("Could not register JMX bean for timer {}: {}", name, e.getMessage());
+            }
+        }
+        return timer;
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+}
@@ -0,0 +1,65 @@
+package com.spacetravel.metrics;
+
+import com.spacetravel.util.LoggerUtil;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically writes {@link Metrics#toPrometheus()} to {@code metrics.dump-file} (replaced atomically, so a
+ * node-exporter textfile collector can pick it up) or, when no file is set, to the log.
+ */
+class MetricsReporter implements AutoCloseable {
+    private static final Logger LOGGER = LoggerUtil.getLogger(MetricsReporter.class);
+
+    static final String INTERVAL_SECONDS = "metrics.dump-interval-seconds";
+    static final String FILE = "metrics.dump-file";
+
+    private final long intervalSeconds;
+    private final Path file;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "metrics-reporter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    MetricsReporter(long intervalSeconds, String file) {
+        this.intervalSeconds = intervalSeconds;
+        this.file = file == null || file.isBlank() ? null : Path.of(file.trim());
+    }
+
+    void start() {
+        LOGGER.info("Dumping metrics every {} s to {}", intervalSeconds, file != null ? file : "the log");
+        scheduler.scheduleAtFixedRate(this::dump, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    void dump() {
+        String text = Metrics.toPrometheus();
+        if (file == null) {
+            LOGGER.info("Metrics:\n{}", text);
+            return;
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            Files.writeString(temp, text, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Could not write metrics to {}: {}", file, e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        dump();
+    }
+}
@@ -0,0 +1,97 @@
+package com.spacetravel.metrics;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram plus error and row counters for one operation.
+ * <p>
+ * Latencies are kept in an HDR histogram with microsecond resolution and two significant digits
+ * (values above {@link #MAX_TRACKABLE_MICROS} are clamped), which keeps every timer at a few kilobytes.
+ */
+public class Timer implements TimerMXBean {
+
+    static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final String name;
+    private final Histogram histogram = new ConcurrentHistogram(1, MAX_TRACKABLE_MICROS, 2);
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+
+    public Timer(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void record(long nanos, long rowCount, boolean failed) {
+        long micros = Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 1), MAX_TRACKABLE_MICROS);
+        histogram.recordValue(micros);
+        totalNanos.add(nanos);
+        rows.add(rowCount);
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    @Override
+    public long getCount() {
+        return histogram.getTotalCount();
+    }
+
+    @Override
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    @Override
+    public long getRows() {
+        return rows.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    @Override
+    public double getMeanMicros() {
+        long count = getCount();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(getTotalNanos()) / (double) count;
+    }
+
+    public long getPercentileMicros(double percentile) {
+        return histogram.getValueAtPercentile(percentile);
+    }
+
+    @Override
+    public long getP50Micros() {
+        return getPercentileMicros(50);
+    }
+
+    @Override
+    public long getP99Micros() {
+        return getPercentileMicros(99);
+    }
+
+    @Override
+    public long getP999Micros() {
+        return getPercentileMicros(99.9);
+    }
+
+    @Override
+    public long getMaxMicros() {
+        return histogram.getMaxValue();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s count=%d errors=%d rows=%d mean=%.1fus p50=%dus p99=%dus max=%dus",
+                name, getCount(), getErrors(), getRows(), getMeanMicros(), getP50Micros(), getP99Micros(), getMaxMicros());
+    }
+}
@@ -0,0 +1,22 @@
+package com.spacetravel.metrics;
+
+/**
+ * JMX view of one {@link Timer}. Latencies are in microseconds and cover the whole lifetime of the process.
+ */
+public interface TimerMXBean {
+    long getCount();
+
+    long getErrors();
+
+    long getRows();
+
+    double getMeanMicros();
+
+    long getP50Micros();
+
+    long getP99Micros();
+
+    long getP999Micros();
+
+    long getMaxMicros();
+}
@@ -0,0 +1,13 @@
+package com.spacetravel.service;
+
+import com.spacetravel.entity.Client;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncClientCrudService {
+    CompletableFuture<Client> create(String name);
+    CompletableFuture<Client> findById(Long id);
+    CompletableFuture<List<Client>> findAll();
+    CompletableFuture<Client> update(Long id, String name);
+    CompletableFuture<Void> delete(Long id);
+}
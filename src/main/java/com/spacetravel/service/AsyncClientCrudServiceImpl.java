@@ -0,0 +1,42 @@
+package com.spacetravel.service;
+
+import com.spacetravel.config.DatabaseExecutor;
+import com.spacetravel.entity.Client;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Runs {@link ClientCrudService} calls on a {@link DatabaseExecutor}; failures complete the future exceptionally
+ * with the same exceptions the blocking service throws.
+ */
+public class AsyncClientCrudServiceImpl implements AsyncClientCrudService {
+
+    private final ClientCrudService clientService;
+    private final DatabaseExecutor executor;
+
+    public AsyncClientCrudServiceImpl(ClientCrudService clientService, DatabaseExecutor executor) {
+        this.clientService = clientService;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<Client> create(String name) {
+        return executor.supply(() -> clientService.create(name));
+    }
+
+    public CompletableFuture<Client> findById(Long id) {
+        return executor.supply(() -> clientService.findById(id));
+    }
+
+    public CompletableFuture<List<Client>> findAll() {
+        return executor.supply(clientService::findAll);
+    }
+
+    public CompletableFuture<Client> update(Long id, String name) {
+        return executor.supply(() -> clientService.update(id, name));
+    }
+
+    public CompletableFuture<Void> delete(Long id) {
+        return executor.run(() -> clientService.delete(id));
+    }
+}
@@ -0,0 +1,16 @@
+package com.spacetravel.service;
+
+import com.spacetravel.entity.Planet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncPlanetCrudService {
+    CompletableFuture<Planet> create(String id, String name);
+    CompletableFuture<Planet> findById(String id);
+    CompletableFuture<Planet> findByName(String name);
+    CompletableFuture<Optional<Planet>> findOptionalByName(String name);
+    CompletableFuture<List<Planet>> findAll();
+    CompletableFuture<Planet> update(String id, String name);
+    CompletableFuture<Void> delete(String id);
+}
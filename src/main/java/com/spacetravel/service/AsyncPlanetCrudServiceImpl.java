@@ -0,0 +1,51 @@
+package com.spacetravel.service;
+
+import com.spacetravel.config.DatabaseExecutor;
+import com.spacetravel.entity.Planet;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Runs {@link PlanetCrudService} calls on a {@link DatabaseExecutor}; failures complete the future exceptionally
+ * with the same exceptions the blocking service throws.
+ */
+public class AsyncPlanetCrudServiceImpl implements AsyncPlanetCrudService {
+
+    private final PlanetCrudService planetService;
+    private final DatabaseExecutor executor;
+
+    public AsyncPlanetCrudServiceImpl(PlanetCrudService planetService, DatabaseExecutor executor) {
+        this.planetService = planetService;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<Planet> create(String id, String name) {
+        return executor.supply(() -> planetService.create(id, name));
+    }
+
+    public CompletableFuture<Planet> findById(String id) {
+        return executor.supply(() -> planetService.findById(id));
+    }
+
+    public CompletableFuture<Planet> findByName(String name) {
+        return executor.supply(() -> planetService.findByName(name));
+    }
+
+    public CompletableFuture<Optional<Planet>> findOptionalByName(String name) {
+        return executor.supply(() -> planetService.findOptionalByName(name));
+    }
+
+    public CompletableFuture<List<Planet>> findAll() {
+        return executor.supply(planetService::findAll);
+    }
+
+    public CompletableFuture<Planet> update(String id, String name) {
+        return executor.supply(() -> planetService.update(id, name));
+    }
+
+    public CompletableFuture<Void> delete(String id) {
+        return executor.run(() -> planetService.delete(id));
+    }
+}
@@ -0,0 +1,41 @@
+package com.spacetravel.service;
+
+import com.spacetravel.dto.TicketView;
+import com.spacetravel.entity.Ticket;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncTicketCrudService {
+    CompletableFuture<Ticket> create(Ticket ticket);
+
+    /**
+     * Async {@link TicketCrudService#create(long, String, String)}: the client and planets of the result are
+     * uninitialized proxies.
+     */
+    CompletableFuture<Ticket> create(long clientId, String fromPlanetId, String toPlanetId);
+
+    CompletableFuture<List<Ticket>> createAll(Collection<Ticket> tickets);
+    CompletableFuture<Ticket> findById(Long id);
+    CompletableFuture<List<Ticket>> findAll();
+    CompletableFuture<List<Ticket>> findAllByClient(Long clientId);
+    CompletableFuture<List<Ticket>> findAllByFromPlanet(String planetId);
+    CompletableFuture<List<Ticket>> findAllByToPlanet(String planetId);
+    CompletableFuture<List<Ticket>> findAllByDate(LocalDate createdAt);
+    CompletableFuture<List<Ticket>> findPage(Long afterId, int limit);
+    CompletableFuture<List<TicketView>> findViewsByClient(Long clientId);
+    CompletableFuture<List<TicketView>> findViewsByFromPlanet(String planetId);
+    CompletableFuture<List<TicketView>> findViewsByToPlanet(String planetId);
+    CompletableFuture<List<TicketView>> findViewsByDate(LocalDate createdAt);
+    CompletableFuture<List<TicketView>> findViewPage(Long afterId, int limit);
+    CompletableFuture<Ticket> updateFromPlanet(Long id, String fromPlanetId);
+    CompletableFuture<Ticket> updateToPlanet(Long id, String toPlanetId);
+    CompletableFuture<Ticket> updatePlanets(Long id, String fromPlanetId, String toPlanetId);
+    CompletableFuture<Integer> rerouteFromPlanet(Collection<Long> ids, String fromPlanetId);
+    CompletableFuture<Integer> rerouteToPlanet(Collection<Long> ids, String toPlanetId);
+    CompletableFuture<Void> delete(Long id);
+    CompletableFuture<Integer> deleteAllByClientId(Long clientId);
+    CompletableFuture<Integer> deleteAllByFromPlanetId(String fromPlanetId);
+    CompletableFuture<Integer> deleteAllByToPlanetId(String toPlanetId);
+}
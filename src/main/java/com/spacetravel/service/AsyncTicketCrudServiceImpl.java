@@ -0,0 +1,122 @@
+package com.spacetravel.service;
+
+import com.spacetravel.config.DatabaseExecutor;
+import com.spacetravel.dto.TicketView;
+import com.spacetravel.entity.Ticket;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Runs {@link TicketCrudService} calls on a {@link DatabaseExecutor}; failures complete the future exceptionally
+ * with the same exceptions the blocking service throws. Streaming queries stay on the blocking service,
+ * since their session must live on the consuming thread.
+ */
+public class AsyncTicketCrudServiceImpl implements AsyncTicketCrudService {
+
+    private final TicketCrudService ticketService;
+    private final DatabaseExecutor executor;
+
+    public AsyncTicketCrudServiceImpl(TicketCrudService ticketService, DatabaseExecutor executor) {
+        this.ticketService = ticketService;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<Ticket> create(Ticket ticket) {
+        return executor.supply(() -> ticketService.create(ticket));
+    }
+
+    public CompletableFuture<Ticket> create(long clientId, String fromPlanetId, String toPlanetId) {
+        return executor.supply(() -> ticketService.create(clientId, fromPlanetId, toPlanetId));
+    }
+
+    public CompletableFuture<List<Ticket>> createAll(Collection<Ticket> tickets) {
+        return executor.supply(() -> ticketService.createAll(tickets));
+    }
+
+    public CompletableFuture<Ticket> findById(Long id) {
+        return executor.supply(() -> ticketService.findById(id));
+    }
+
+    public CompletableFuture<List<Ticket>> findAll() {
+        return executor.supply(ticketService::findAll);
+    }
+
+    public CompletableFuture<List<Ticket>> findAllByClient(Long clientId) {
+        return executor.supply(() -> ticketService.findAllByClient(clientId));
+    }
+
+    public CompletableFuture<List<Ticket>> findAllByFromPlanet(String planetId) {
+        return executor.supply(() -> ticketService.findAllByFromPlanet(planetId));
+    }
+
+    public CompletableFuture<List<Ticket>> findAllByToPlanet(String planetId) {
+        return executor.supply(() -> ticketService.findAllByToPlanet(planetId));
+    }
+
+    public CompletableFuture<List<Ticket>> findAllByDate(LocalDate createdAt) {
+        return executor.supply(() -> ticketService.findAllByDate(createdAt));
+    }
+
+    public CompletableFuture<List<Ticket>> findPage(Long afterId, int limit) {
+        return executor.supply(() -> ticketService.findPage(afterId, limit));
+    }
+
+    public CompletableFuture<List<TicketView>> findViewsByClient(Long clientId) {
+        return executor.supply(() -> ticketService.findViewsByClient(clientId));
+    }
+
+    public CompletableFuture<List<TicketView>> findViewsByFromPlanet(String planetId) {
+        return executor.supply(() -> ticketService.findViewsByFromPlanet(planetId));
+    }
+
+    public CompletableFuture<List<TicketView>> findViewsByToPlanet(String planetId) {
+        return executor.supply(() -> ticketService.findViewsByToPlanet(planetId));
+    }
+
+    public CompletableFuture<List<TicketView>> findViewsByDate(LocalDate createdAt) {
+        return executor.supply(() -> ticketService.findViewsByDate(createdAt));
+    }
+
+    public CompletableFuture<List<TicketView>> findViewPage(Long afterId, int limit) {
+        return executor.supply(() -> ticketService.findViewPage(afterId, limit));
+    }
+
+    public CompletableFuture<Ticket> updateFromPlanet(Long id, String fromPlanetId) {
+        return executor.supply(() -> ticketService.updateFromPlanet(id, fromPlanetId));
+    }
+
+    public CompletableFuture<Ticket> updateToPlanet(Long id, String toPlanetId) {
+        return executor.supply(() -> ticketService.updateToPlanet(id, toPlanetId));
+    }
+
+    public CompletableFuture<Ticket> updatePlanets(Long id, String fromPlanetId, String toPlanetId) {
+        return executor.supply(() -> ticketService.updatePlanets(id, fromPlanetId, toPlanetId));
+    }
+
+    public CompletableFuture<Integer> rerouteFromPlanet(Collection<Long> ids, String fromPlanetId) {
+        return executor.supply(() -> ticketService.rerouteFromPlanet(ids, fromPlanetId));
+    }
+
+    public CompletableFuture<Integer> rerouteToPlanet(Collection<Long> ids, String toPlanetId) {
+        return executor.supply(() -> ticketService.rerouteToPlanet(ids, toPlanetId));
+    }
+
+    public CompletableFuture<Void> delete(Long id) {
+        return executor.run(() -> ticketService.delete(id));
+    }
+
+    public CompletableFuture<Integer> deleteAllByClientId(Long clientId) {
+        return executor.supply(() -> ticketService.deleteAllByClientId(clientId));
+    }
+
+    public CompletableFuture<Integer> deleteAllByFromPlanetId(String fromPlanetId) {
+        return executor.supply(() -> ticketService.deleteAllByFromPlanetId(fromPlanetId));
+    }
+
+    public CompletableFuture<Integer> deleteAllByToPlanetId(String toPlanetId) {
+        return executor.supply(() -> ticketService.deleteAllByToPlanetId(toPlanetId));
+    }
+}
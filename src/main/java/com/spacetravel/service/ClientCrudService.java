@@ -7,6 +7,7 @@ public interface ClientCrudService {
     Client create(String name);
     Client findById(Long id);
     List<Client> findAll();
+    long count();
     Client update(Long id, String name);
     void delete(Long id);
 }
@@ -1,7 +1,7 @@
 package com.spacetravel.service;
 
+import com.spacetravel.config.TransactionTemplate;
 import com.spacetravel.dao.ClientDao;
-import com.spacetravel.dao.TicketDao;
 import com.spacetravel.entity.Client;
 import com.spacetravel.exception.ClientNotFoundException;
 import com.spacetravel.util.LoggerUtil;
@@ -12,12 +12,11 @@ import java.util.List;
 public class ClientCrudServiceImpl implements ClientCrudService {
 
     private final ClientDao clientDao;
-    private final TicketDao ticketDao;
+    private final TransactionTemplate transactions = new TransactionTemplate();
     private final Logger logger = LoggerUtil.getLogger(ClientCrudServiceImpl.class);
 
-    public ClientCrudServiceImpl(ClientDao clientDao, TicketDao ticketDao) {
+    public ClientCrudServiceImpl(ClientDao clientDao) {
         this.clientDao = clientDao;
-        this.ticketDao = ticketDao;
     }
 
     public Client create(String name) {
@@ -38,34 +37,30 @@ public class ClientCrudServiceImpl implements ClientCrudService {
         return clientDao.findAll();
     }
 
+    public long count() {
+        return clientDao.count();
+    }
+
     public Client update(Long id, String name) {
         validateId(id);
         validateName(name);
-        return clientDao.findById(id)
+        return transactions.execute(session -> clientDao.findById(id)
                 .map(client -> {
                     client.setName(name);
                     logger.info("Updating client {} to new name '{}'", id, name);
                     return clientDao.update(client);
                 })
-                .orElseThrow(() -> new ClientNotFoundException("Attempted to update nonexistent client with id: ", id));
+                .orElseThrow(() -> new ClientNotFoundException("Attempted to update nonexistent client with id: ", id)));
     }
 
     public void delete(Long id) {
         validateId(id);
-        clientDao.findById(id)
-                .ifPresentOrElse(
-                        client -> {
-                            logger.info("Deleting client with ID: {}", id);
-
-                            ticketDao.deleteAllByClientId(id);
-
-                            clientDao.delete(client);
-                        },
-                        () -> {
-                            logger.warn("Attempted to delete nonexistent client: {}", id);
-                            throw new ClientNotFoundException("Attempted to delete nonexistent client with id: ", id);
-                        }
-                );
+        logger.info("Deleting client with ID: {}", id);
+        // One statement; the client's tickets go with it through ON DELETE CASCADE
+        if (clientDao.deleteById(id) == 0) {
+            logger.warn("Attempted to delete nonexistent client: {}", id);
+            throw new ClientNotFoundException("Attempted to delete nonexistent client with id: ", id);
+        }
     }
 
     private void validateName(String name) {
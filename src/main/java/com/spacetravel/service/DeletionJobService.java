@@ -0,0 +1,17 @@
+package com.spacetravel.service;
+
+import com.spacetravel.entity.DeletionJob;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface DeletionJobService extends AutoCloseable {
+    DeletionJob deleteClientInBackground(Long clientId);
+    DeletionJob deletePlanetInBackground(String planetId);
+    Optional<DeletionJob> findById(Long id);
+    List<DeletionJob> findAll();
+    int resumeUnfinished();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,177 @@
+package com.spacetravel.service;
+
+import com.spacetravel.dao.ClientDao;
+import com.spacetravel.dao.DeletionJobDao;
+import com.spacetravel.entity.DeletionJob;
+import com.spacetravel.exception.ClientNotFoundException;
+import com.spacetravel.exception.PlanetNotFoundException;
+import com.spacetravel.util.LoggerUtil;
+import org.slf4j.Logger;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deletes clients and planets with many tickets on one background thread instead of in one long statement.
+ * <p>
+ * Each job removes the target's tickets in id-ordered chunks of {@link DeletionJobSettings#chunkSize()}, one
+ * transaction per chunk, sleeping between chunks to stay within {@link DeletionJobSettings#rowsPerSecond()}.
+ * The checkpoint is committed with every chunk, so jobs interrupted by {@link #close()} or a crash continue
+ * where they stopped after {@link #resumeUnfinished()}. The client or planet row is deleted only once no ticket
+ * references it any more.
+ */
+public class DeletionJobServiceImpl implements DeletionJobService {
+
+    private static final long SHUTDOWN_WAIT_SECONDS = 10;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final DeletionJobDao jobDao;
+    private final ClientDao clientDao;
+    private final PlanetCatalog planetCatalog;
+    private final DeletionJobSettings settings;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("deletion-jobs").daemon().factory());
+    private final Logger logger = LoggerUtil.getLogger(DeletionJobServiceImpl.class);
+    private volatile boolean closed;
+
+    public DeletionJobServiceImpl(DeletionJobDao jobDao, ClientDao clientDao, PlanetCatalog planetCatalog,
+                                  DeletionJobSettings settings) {
+        this.jobDao = jobDao;
+        this.clientDao = clientDao;
+        this.planetCatalog = planetCatalog;
+        this.settings = settings;
+    }
+
+    public DeletionJob deleteClientInBackground(Long clientId) {
+        if (clientId == null || clientId <= 0) {
+            throw new IllegalArgumentException("Client ID must be a positive number");
+        }
+        if (!clientDao.existsById(clientId)) {
+            throw new ClientNotFoundException("Attempted to delete nonexistent client with id: ", clientId);
+        }
+        return submit(DeletionJob.TargetType.CLIENT, String.valueOf(clientId));
+    }
+
+    public DeletionJob deletePlanetInBackground(String planetId) {
+        if (planetId == null || planetId.isBlank()) {
+            throw new IllegalArgumentException("Planet ID must not be empty");
+        }
+        if (planetCatalog.findById(planetId).isEmpty()) {
+            throw new PlanetNotFoundException("Attempted to delete nonexistent planet with id: ", planetId);
+        }
+        return submit(DeletionJob.TargetType.PLANET, planetId);
+    }
+
+    public Optional<DeletionJob> findById(Long id) {
+        return jobDao.findById(id);
+    }
+
+    public List<DeletionJob> findAll() {
+        return jobDao.findAll();
+    }
+
+    /**
+     * Schedules the jobs left pending or running by a previous process. Returns how many were scheduled.
+     */
+    public int resumeUnfinished() {
+        List<DeletionJob> jobs = jobDao.findUnfinished();
+        jobs.forEach(job -> {
+            logger.info("Resuming deletion job {}", job);
+            schedule(job.getId());
+        });
+        return jobs.size();
+    }
+
+    /**
+     * Stops the running job after its current chunk; it and any queued jobs stay unfinished and are resumed
+     * by the next {@link #resumeUnfinished()}.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("Deletion job did not stop within {} s", SHUTDOWN_WAIT_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized DeletionJob submit(DeletionJob.TargetType targetType, String targetId) {
+        if (closed) {
+            throw new IllegalStateException("Deletion jobs are shut down");
+        }
+        Optional<DeletionJob> existing = jobDao.findUnfinishedByTarget(targetType, targetId);
+        if (existing.isPresent()) {
+            logger.info("{} {} is already being deleted by job {}", targetType, targetId, existing.get().getId());
+            return existing.get();
+        }
+        DeletionJob job = jobDao.save(new DeletionJob(targetType, targetId, jobDao.countTickets(targetType, targetId)));
+        schedule(job.getId());
+        return job;
+    }
+
+    private void schedule(Long jobId) {
+        // The worker loads its own copy, so the entity returned to the caller is never shared between threads
+        executor.execute(() -> run(jobId));
+    }
+
+    private void run(Long jobId) {
+        DeletionJob job = jobDao.findById(jobId).orElse(null);
+        if (job == null || job.isFinished()) {
+            return;
+        }
+        logger.info("Running deletion job {}", job);
+        long start = System.nanoTime();
+        long deleted = 0;
+        try {
+            while (!closed) {
+                int chunk = jobDao.deleteNextChunk(job, settings.chunkSize());
+                if (chunk == 0) {
+                    if (jobDao.complete(job)) {
+                        if (job.getTargetType() == DeletionJob.TargetType.PLANET) {
+                            planetCatalog.refresh();
+                        }
+                        return;
+                    }
+                    continue;
+                }
+                deleted += chunk;
+                throttle(start, deleted);
+            }
+            logger.info("Deletion job {} paused at ticket {}", job.getId(), job.getLastTicketId());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.info("Deletion job {} paused at ticket {}", job.getId(), job.getLastTicketId());
+        } catch (RuntimeException e) {
+            if (closed) {
+                logger.info("Deletion job {} stopped at ticket {}: {}", job.getId(), job.getLastTicketId(), e.getMessage());
+                return;
+            }
+            logger.error("Deletion job {} failed", job.getId(), e);
+            String error = String.valueOf(e.getMessage());
+            job.setStatus(DeletionJob.Status.FAILED);
+            job.setError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+            jobDao.update(job);
+        }
+    }
+
+    /**
+     * Sleeps until {@code deleted} rows since {@code startNanos} are within the rows/second budget.
+     */
+    private void throttle(long startNanos, long deleted) throws InterruptedException {
+        if (settings.rowsPerSecond() == 0) {
+            return;
+        }
+        long budgetNanos = deleted * TimeUnit.SECONDS.toNanos(1) / settings.rowsPerSecond();
+        long aheadNanos = budgetNanos - (System.nanoTime() - startNanos);
+        if (aheadNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(aheadNanos);
+        }
+    }
+}
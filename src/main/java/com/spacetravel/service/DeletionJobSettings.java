@@ -0,0 +1,29 @@
+package com.spacetravel.service;
+
+import com.spacetravel.config.AppProperties;
+import com.spacetravel.exception.ConfigurationException;
+
+import java.util.Properties;
+
+/**
+ * Background deletion tuning read from the {@code jobs.delete.*} properties.
+ *
+ * @param chunkSize     tickets deleted per transaction; also the most rows a chunk keeps locked
+ * @param rowsPerSecond ticket deletion budget across all jobs; 0 disables throttling
+ */
+public record DeletionJobSettings(int chunkSize, long rowsPerSecond) {
+    public static final String CHUNK_SIZE = "jobs.delete.chunk-size";
+    public static final String ROWS_PER_SECOND = "jobs.delete.rows-per-second";
+
+    public DeletionJobSettings {
+        if (chunkSize <= 0) {
+            throw new ConfigurationException(CHUNK_SIZE + " must be a positive number");
+        }
+    }
+
+    public static DeletionJobSettings from(Properties properties) {
+        return new DeletionJobSettings(
+                AppProperties.getInt(properties, CHUNK_SIZE, 5_000),
+                AppProperties.getLong(properties, ROWS_PER_SECOND, 50_000));
+    }
+}
@@ -0,0 +1,83 @@
+package com.spacetravel.service;
+
+import com.spacetravel.dao.PlanetDao;
+import com.spacetravel.entity.Planet;
+import com.spacetravel.util.LoggerUtil;
+import org.slf4j.Logger;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-process, copy-on-write snapshot of the planet table keyed by id and by name.
+ * <p>
+ * Lookups read the current snapshot without touching the database; a miss falls back to the DAO and
+ * reloads the snapshot if the planet exists. Writers call {@link #refresh()} after committing so readers
+ * atomically switch to a new immutable snapshot. Callers always receive detached copies.
+ */
+public class PlanetCatalog {
+
+    private final PlanetDao planetDao;
+    private final Logger logger = LoggerUtil.getLogger(PlanetCatalog.class);
+    private volatile Snapshot snapshot;
+
+    public PlanetCatalog(PlanetDao planetDao) {
+        this.planetDao = planetDao;
+    }
+
+    public Optional<Planet> findById(String id) {
+        Planet planet = current().byId().get(id);
+        if (planet == null && planetDao.findById(id).isPresent()) {
+            planet = reload().byId().get(id);
+        }
+        return Optional.ofNullable(planet).map(PlanetCatalog::copy);
+    }
+
+    public Optional<Planet> findByName(String name) {
+        Planet planet = current().byName().get(name);
+        if (planet == null && planetDao.findByName(name).isPresent()) {
+            planet = reload().byName().get(name);
+        }
+        return Optional.ofNullable(planet).map(PlanetCatalog::copy);
+    }
+
+    public int size() {
+        return current().byId().size();
+    }
+
+    /**
+     * Reloads all planets and atomically publishes the new snapshot.
+     */
+    public void refresh() {
+        reload();
+    }
+
+    private synchronized Snapshot reload() {
+        List<Planet> planets = planetDao.findAll();
+        Map<String, Planet> byId = new HashMap<>(planets.size() * 2);
+        Map<String, Planet> byName = new HashMap<>(planets.size() * 2);
+        for (Planet planet : planets) {
+            Planet copy = copy(planet);
+            byId.put(copy.getId(), copy);
+            byName.put(copy.getName(), copy);
+        }
+        Snapshot loaded = new Snapshot(Map.copyOf(byId), Map.copyOf(byName));
+        snapshot = loaded;
+        logger.info("Planet catalog loaded with {} planets", byId.size());
+        return loaded;
+    }
+
+    private Snapshot current() {
+        Snapshot loaded = snapshot;
+        return loaded != null ? loaded : reload();
+    }
+
+    private static Planet copy(Planet planet) {
+        return new Planet(planet.getId(), planet.getName());
+    }
+
+    private record Snapshot(Map<String, Planet> byId, Map<String, Planet> byName) {
+    }
+}
@@ -1,7 +1,7 @@
 package com.spacetravel.service;
 
+import com.spacetravel.config.TransactionTemplate;
 import com.spacetravel.dao.PlanetDao;
-import com.spacetravel.dao.TicketDao;
 import com.spacetravel.entity.Planet;
 import com.spacetravel.exception.DuplicatePlanetIdException;
 import com.spacetravel.exception.PlanetNotFoundException;
@@ -14,40 +14,45 @@ import java.util.Optional;
 public class PlanetCrudServiceImpl implements PlanetCrudService {
 
     private final PlanetDao planetDao;
-    private final TicketDao ticketDao;
+    private final PlanetCatalog planetCatalog;
+    private final TransactionTemplate transactions = new TransactionTemplate();
     private final Logger logger = LoggerUtil.getLogger(PlanetCrudServiceImpl.class);
 
-    public PlanetCrudServiceImpl(PlanetDao planetDao, TicketDao ticketDao) {
+    public PlanetCrudServiceImpl(PlanetDao planetDao, PlanetCatalog planetCatalog) {
         this.planetDao = planetDao;
-        this.ticketDao = ticketDao;
+        this.planetCatalog = planetCatalog;
     }
 
     public Planet create(String id, String name) {
         validateId(id);
         validateName(name);
-        if (planetDao.findById(id).isPresent()) {
-            throw new DuplicatePlanetIdException("Planet with ID '" + id + "' already exists.");
-        }
-        Planet planet = new Planet(id, name);
-        logger.info("Creating planet: {} - {}", id, name);
-        return planetDao.save(planet);
+        Planet saved = transactions.execute(session -> {
+            // Checked against the table, not the snapshot, in the same unit of work as the insert
+            if (planetDao.existsById(id)) {
+                throw new DuplicatePlanetIdException("Planet with ID '" + id + "' already exists.");
+            }
+            logger.info("Creating planet: {} - {}", id, name);
+            return planetDao.save(new Planet(id, name));
+        });
+        planetCatalog.refresh();
+        return saved;
     }
 
     public Planet findById(String id) {
         validateId(id);
-        return planetDao.findById(id)
+        return planetCatalog.findById(id)
                 .orElseThrow(() -> PlanetNotFoundException.forId(id));
     }
 
     public Planet findByName(String name) {
         validateName(name);
-        return planetDao.findByName(name)
+        return planetCatalog.findByName(name)
                 .orElseThrow(() -> PlanetNotFoundException.forName(name));
     }
 
     public Optional<Planet> findOptionalByName(String name) {
         validateName(name);
-        return planetDao.findByName(name);
+        return planetCatalog.findByName(name);
     }
 
     public List<Planet> findAll() {
@@ -57,32 +62,26 @@ public class PlanetCrudServiceImpl implements PlanetCrudService {
     public Planet update(String id, String name) {
         validateId(id);
         validateName(name);
-        return planetDao.findById(id)
+        Planet updated = planetCatalog.findById(id)
                 .map(planet -> {
                     planet.setName(name);
                     logger.info("Updating planet {} to new name '{}'", id, name);
                     return planetDao.update(planet);
                 })
                 .orElseThrow(() -> new PlanetNotFoundException("Attempted to update nonexistent planet with id: ", id));
+        planetCatalog.refresh();
+        return updated;
     }
 
     public void delete(String id) {
         validateId(id);
-        planetDao.findById(id)
-                .ifPresentOrElse(
-                        planet -> {
-                            logger.info("Deleting planet with ID: {}", id);
-
-                            ticketDao.deleteAllByFromPlanetId(id);
-                            ticketDao.deleteAllByToPlanetId(id);
-
-                            planetDao.delete(planet);
-                        },
-                        () -> {
-                            logger.warn("Attempted to delete nonexistent planet: {}", id);
-                            throw new PlanetNotFoundException("Attempted to delete nonexistent planet with id: ", id);
-                        }
-                );
+        logger.info("Deleting planet with ID: {}", id);
+        // One statement; tickets from or to the planet go with it through ON DELETE CASCADE
+        if (planetDao.deleteById(id) == 0) {
+            logger.warn("Attempted to delete nonexistent planet: {}", id);
+            throw new PlanetNotFoundException("Attempted to delete nonexistent planet with id: ", id);
+        }
+        planetCatalog.refresh();
     }
 
     private void validateName(String name) {
@@ -0,0 +1,50 @@
+package com.spacetravel.service;
+
+import com.spacetravel.config.AppProperties;
+import com.spacetravel.dao.ClientDao;
+import com.spacetravel.dao.ClientDaoImpl;
+import com.spacetravel.dao.PlanetDao;
+import com.spacetravel.dao.PlanetDaoImpl;
+import com.spacetravel.dao.TicketDao;
+import com.spacetravel.dao.TicketDaoImpl;
+import com.spacetravel.metrics.Metrics;
+
+import java.util.Properties;
+
+/**
+ * The DAOs and services of one application instance, wired the same way for the CLI, batch mode, the HTTP API
+ * and the benchmarks: every DAO and service is wrapped in {@link Metrics} timers, and all services share one
+ * {@link PlanetCatalog}.
+ */
+public record Services(
+        ClientDao clientDao,
+        PlanetDao planetDao,
+        TicketDao ticketDao,
+        PlanetCatalog planetCatalog,
+        ClientCrudService clientService,
+        PlanetCrudService planetService,
+        TicketCrudService ticketService
+) {
+
+    public static Services create() {
+        return create(AppProperties.load());
+    }
+
+    public static Services create(Properties properties) {
+        PlanetDao planetDao = Metrics.instrument(PlanetDao.class, new PlanetDaoImpl(), "dao.planet");
+        ClientDao clientDao = Metrics.instrument(ClientDao.class, new ClientDaoImpl(), "dao.client");
+        TicketDao ticketDao = Metrics.instrument(TicketDao.class, new TicketDaoImpl(), "dao.ticket");
+        PlanetCatalog planetCatalog = new PlanetCatalog(planetDao);
+        planetCatalog.refresh();
+
+        ClientCrudService clientService = Metrics.instrument(ClientCrudService.class,
+                new ClientCrudServiceImpl(clientDao), "service.client");
+        PlanetCrudService planetService = Metrics.instrument(PlanetCrudService.class,
+                new PlanetCrudServiceImpl(planetDao, planetCatalog), "service.planet");
+        TicketCrudService ticketService = Metrics.instrument(TicketCrudService.class,
+                new TicketCrudServiceImpl(ticketDao, planetCatalog,
+                        AppProperties.getInt(properties, TicketCrudServiceImpl.DELETE_CHUNK_SIZE, 0)),
+                "service.ticket");
+        return new Services(clientDao, planetDao, ticketDao, planetCatalog, clientService, planetService, ticketService);
+    }
+}
@@ -1,21 +1,68 @@
 package com.spacetravel.service;
 
+import com.spacetravel.dto.TicketSearch;
+import com.spacetravel.dto.TicketView;
 import com.spacetravel.entity.Ticket;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface TicketCrudService {
     Ticket create(Ticket ticket);
+
+    /**
+     * Creates a ticket without loading its client and planets. The returned ticket carries uninitialized
+     * client/planet proxies: only their ids are usable, reading their names after return throws
+     * {@link org.hibernate.LazyInitializationException}. Use {@link #findById(Long)} for a fully loaded ticket.
+     */
+    Ticket create(long clientId, String fromPlanetId, String toPlanetId);
+
+    List<Ticket> createAll(Collection<Ticket> tickets);
     Ticket findById(Long id);
     List<Ticket> findAll();
     List<Ticket> findAllByClient(Long clientId);
     List<Ticket> findAllByFromPlanet(String planetId);
     List<Ticket> findAllByToPlanet(String planetId);
     List<Ticket> findAllByDate(LocalDate createdAt);
+    long count();
+    long countByClient(Long clientId);
+    long countByFromPlanet(String planetId);
+    long countByToPlanet(String planetId);
+    long countByDateRange(LocalDate from, LocalDate to);
+    List<Ticket> findPage(Long afterId, int limit);
+    List<Ticket> findPageByClient(Long clientId, Long afterId, int limit);
+    List<Ticket> findPageByFromPlanet(String planetId, Long afterId, int limit);
+    List<Ticket> findPageByToPlanet(String planetId, Long afterId, int limit);
+    List<Ticket> findPageByDate(LocalDate createdAt, Long afterId, int limit);
+    Stream<Ticket> streamAll();
+    List<TicketView> findViewsByClient(Long clientId);
+    List<TicketView> findViewsByFromPlanet(String planetId);
+    List<TicketView> findViewsByToPlanet(String planetId);
+    List<TicketView> findViewsByDate(LocalDate createdAt);
+    List<TicketView> findViewPage(Long afterId, int limit);
+    Stream<TicketView> streamAllViews();
+    List<TicketView> search(TicketSearch search);
     Ticket updateFromPlanet(Long id, String fromPlanetId);
     Ticket updateToPlanet(Long id, String toPlanetId);
+
+    /**
+     * Changes either or both ends of a ticket in one transaction; a {@code null} planet id keeps that end.
+     * Rejects a change that would make the ticket start and end on the same planet, or that changes nothing.
+     */
+    Ticket updatePlanets(Long id, String fromPlanetId, String toPlanetId);
+
+    int rerouteFromPlanet(Collection<Long> ids, String fromPlanetId);
+    int rerouteToPlanet(Collection<Long> ids, String toPlanetId);
     void delete(Long id);
-    void deleteAllByClientId(Long clientId);
-    void deleteAllByFromPlanetId(String fromPlanetId);
-    void deleteAllByToPlanetId(String toPlanetId);
+
+    /**
+     * The {@code deleteAllBy*} methods delete every matching ticket with one statement, atomically. When the
+     * service is configured with a delete chunk size ({@code tickets.delete.chunk-size}), each chunk commits in
+     * its own transaction instead: a failure then leaves the chunks already deleted, and the exception message
+     * carries their row count.
+     */
+    int deleteAllByClientId(Long clientId);
+    int deleteAllByFromPlanetId(String fromPlanetId);
+    int deleteAllByToPlanetId(String toPlanetId);
 }
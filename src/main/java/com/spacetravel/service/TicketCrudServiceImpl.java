@@ -1,35 +1,101 @@
 package com.spacetravel.service;
 
-import com.spacetravel.dao.PlanetDao;
+import com.spacetravel.config.TransactionTemplate;
 import com.spacetravel.dao.TicketDao;
+import com.spacetravel.dto.TicketSearch;
+import com.spacetravel.dto.TicketView;
 import com.spacetravel.entity.Planet;
 import com.spacetravel.entity.Ticket;
+import com.spacetravel.exception.ClientNotFoundException;
+import com.spacetravel.exception.DataProcessingException;
 import com.spacetravel.exception.PlanetNotFoundException;
 import com.spacetravel.exception.TicketNotFoundException;
 import com.spacetravel.util.LoggerUtil;
+import org.hibernate.exception.ConstraintViolationException;
 import org.slf4j.Logger;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 public class TicketCrudServiceImpl implements TicketCrudService {
 
+    public static final int MAX_PAGE_SIZE = 1000;
+    public static final String DELETE_CHUNK_SIZE = "tickets.delete.chunk-size";
+
     private final TicketDao ticketDao;
-    private final PlanetDao planetDao;
+    private final PlanetCatalog planetCatalog;
+    private final int deleteChunkSize;
+    private final TransactionTemplate transactions = new TransactionTemplate();
 
     private final Logger logger = LoggerUtil.getLogger(TicketCrudServiceImpl.class);
 
-    public TicketCrudServiceImpl(TicketDao ticketDao, PlanetDao planetDao) {
+    public TicketCrudServiceImpl(TicketDao ticketDao, PlanetCatalog planetCatalog) {
+        this(ticketDao, planetCatalog, 0);
+    }
+
+    /**
+     * @param deleteChunkSize rows per transaction for the {@code deleteAllBy*} methods; 0 deletes with one statement
+     */
+    public TicketCrudServiceImpl(TicketDao ticketDao, PlanetCatalog planetCatalog, int deleteChunkSize) {
+        if (deleteChunkSize < 0) {
+            throw new IllegalArgumentException("Delete chunk size must not be negative");
+        }
         this.ticketDao = ticketDao;
-        this.planetDao = planetDao;
+        this.planetCatalog = planetCatalog;
+        this.deleteChunkSize = deleteChunkSize;
     }
 
     public Ticket create(Ticket ticket) {
         validateData(ticket);
-        logger.info("Creating ticket: {}", ticket.getId());
+        logger.debug("Creating ticket for client: {}", ticket.getClient().getId());
         return ticketDao.save(ticket);
     }
 
+    /**
+     * Creates a ticket without loading the client and planets: the foreign keys reject unknown ids, and the
+     * violated constraint is reported as {@link ClientNotFoundException} or {@link PlanetNotFoundException}.
+     * The client and planets of the returned ticket are uninitialized proxies.
+     */
+    public Ticket create(long clientId, String fromPlanetId, String toPlanetId) {
+        validateId(clientId);
+        validatePlanetId(fromPlanetId);
+        validatePlanetId(toPlanetId);
+        logger.debug("Creating ticket for client: {}", clientId);
+        try {
+            return ticketDao.saveByReference(clientId, fromPlanetId, toPlanetId);
+        } catch (DataProcessingException e) {
+            String constraint = violatedConstraint(e);
+            if (constraint.contains("FK_TICKET_CLIENT")) {
+                throw new ClientNotFoundException(clientId);
+            }
+            if (constraint.contains("FK_TICKET_FROM_PLANET")) {
+                throw new PlanetNotFoundException("From planet not found with id: ", fromPlanetId);
+            }
+            if (constraint.contains("FK_TICKET_TO_PLANET")) {
+                throw new PlanetNotFoundException("To planet not found with id: ", toPlanetId);
+            }
+            throw e;
+        }
+    }
+
+    public List<Ticket> createAll(Collection<Ticket> tickets) {
+        if (tickets == null) {
+            throw new IllegalArgumentException("Tickets must not be null");
+        }
+        tickets.forEach(this::validateData);
+        if (tickets.isEmpty()) {
+            return List.of();
+        }
+        if (logger.isInfoEnabled()) {
+            logger.info("Creating {} tickets", tickets.size());
+        }
+        return ticketDao.saveAll(tickets);
+    }
+
     public Ticket findById(Long id) {
         validateId(id);
         return ticketDao.findById(id)
@@ -56,91 +122,259 @@ public class TicketCrudServiceImpl implements TicketCrudService {
         return ticketDao.findAllByDate(createdAt);
     }
 
-    public Ticket updateFromPlanet(Long id, String fromPlanetId) {
-        validateId(id);
-        Planet fromPlanet = planetDao.findById(fromPlanetId)
-                .orElseThrow(() -> new PlanetNotFoundException("From planet not found with id: ", fromPlanetId));
+    public long count() {
+        return ticketDao.count();
+    }
+
+    public long countByClient(Long clientId) {
+        validateId(clientId);
+        return ticketDao.countByClient(clientId);
+    }
+
+    public long countByFromPlanet(String planetId) {
+        validatePlanetId(planetId);
+        return ticketDao.countByFromPlanet(planetId);
+    }
 
-        ticketDao.findById(id)
-                .orElseThrow(() -> new TicketNotFoundException("Attempted to update nonexistent ticket with id: ", id));
+    public long countByToPlanet(String planetId) {
+        validatePlanetId(planetId);
+        return ticketDao.countByToPlanet(planetId);
+    }
 
-        logger.info("Updating fromPlanet of ticket {} to '{}'", id, fromPlanetId);
-        return ticketDao.updateFromPlanet(id, fromPlanet);
+    /**
+     * Tickets created between {@code from} and {@code to}, both days (UTC) included.
+     */
+    public long countByDateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Date must not be null");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+        return ticketDao.countByDateRange(from, to);
+    }
 
+    public List<Ticket> findPage(Long afterId, int limit) {
+        validatePage(afterId, limit);
+        return ticketDao.findPage(afterId, limit);
+    }
+
+    public List<Ticket> findPageByClient(Long clientId, Long afterId, int limit) {
+        validateId(clientId);
+        validatePage(afterId, limit);
+        return ticketDao.findPageByClient(clientId, afterId, limit);
+    }
+
+    public List<Ticket> findPageByFromPlanet(String planetId, Long afterId, int limit) {
+        validatePlanetId(planetId);
+        validatePage(afterId, limit);
+        return ticketDao.findPageByFromPlanet(planetId, afterId, limit);
+    }
+
+    public List<Ticket> findPageByToPlanet(String planetId, Long afterId, int limit) {
+        validatePlanetId(planetId);
+        validatePage(afterId, limit);
+        return ticketDao.findPageByToPlanet(planetId, afterId, limit);
+    }
+
+    public List<Ticket> findPageByDate(LocalDate createdAt, Long afterId, int limit) {
+        if (createdAt == null) {
+            throw new IllegalArgumentException("Date must not be null");
+        }
+        validatePage(afterId, limit);
+        return ticketDao.findPageByDate(createdAt, afterId, limit);
+    }
+
+    public Stream<Ticket> streamAll() {
+        return ticketDao.streamAll();
+    }
+
+    public List<TicketView> findViewsByClient(Long clientId) {
+        validateId(clientId);
+        return ticketDao.findViewsByClient(clientId);
+    }
+
+    public List<TicketView> findViewsByFromPlanet(String planetId) {
+        validatePlanetId(planetId);
+        return ticketDao.findViewsByFromPlanet(planetId);
+    }
+
+    public List<TicketView> findViewsByToPlanet(String planetId) {
+        validatePlanetId(planetId);
+        return ticketDao.findViewsByToPlanet(planetId);
+    }
+
+    public List<TicketView> findViewsByDate(LocalDate createdAt) {
+        if (createdAt == null) {
+            throw new IllegalArgumentException("Date must not be null");
+        }
+        return ticketDao.findViewsByDate(createdAt);
+    }
+
+    public List<TicketView> findViewPage(Long afterId, int limit) {
+        validatePage(afterId, limit);
+        return ticketDao.findViewPage(afterId, limit);
+    }
+
+    public Stream<TicketView> streamAllViews() {
+        return ticketDao.streamAllViews();
+    }
+
+    /**
+     * Tickets matching every filter of {@code search}, found with a single query (two indexed ones for
+     * {@code planetId}, one per direction).
+     */
+    public List<TicketView> search(TicketSearch search) {
+        if (search == null) {
+            throw new IllegalArgumentException("Search must not be null");
+        }
+        if (search.limit() != null && search.limit() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Search limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (search.clientId() != null) {
+            validateId(search.clientId());
+        }
+        Stream.of(search.fromPlanetId(), search.toPlanetId(), search.planetId())
+                .filter(Objects::nonNull)
+                .forEach(this::validatePlanetId);
+        return ticketDao.search(search);
+    }
+
+    public Ticket updateFromPlanet(Long id, String fromPlanetId) {
+        return updatePlanets(id, fromPlanetId, null);
     }
 
     public Ticket updateToPlanet(Long id, String toPlanetId) {
+        return updatePlanets(id, null, toPlanetId);
+    }
+
+    /**
+     * Checks the resulting ends against each other and against the current ones, and updates them in one unit
+     * of work, so a failure on either end leaves the ticket unchanged.
+     */
+    public Ticket updatePlanets(Long id, String fromPlanetId, String toPlanetId) {
         validateId(id);
-        Planet toPlanet = planetDao.findById(toPlanetId)
+        if (fromPlanetId == null && toPlanetId == null) {
+            throw new IllegalArgumentException("fromPlanetId or toPlanetId is required");
+        }
+        Planet fromPlanet = fromPlanetId == null ? null : planetCatalog.findById(fromPlanetId)
+                .orElseThrow(() -> new PlanetNotFoundException("From planet not found with id: ", fromPlanetId));
+        Planet toPlanet = toPlanetId == null ? null : planetCatalog.findById(toPlanetId)
                 .orElseThrow(() -> new PlanetNotFoundException("To planet not found with id: ", toPlanetId));
 
-        ticketDao.findById(id)
-                .orElseThrow(() -> new TicketNotFoundException("Attempted to update nonexistent ticket with id: ", id));
+        return transactions.execute(session -> {
+            // The ticket row only; the planet proxies carry the current ends without being loaded
+            Ticket ticket = ticketDao.findRowById(id)
+                    .orElseThrow(() -> new TicketNotFoundException("Attempted to update nonexistent ticket with id: ", id));
+            String newFrom = fromPlanet == null ? ticket.getFromPlanet().getId() : fromPlanet.getId();
+            String newTo = toPlanet == null ? ticket.getToPlanet().getId() : toPlanet.getId();
+            if (newFrom.equals(newTo)) {
+                throw new IllegalArgumentException("fromPlanet and toPlanet must differ, both would be: " + newFrom);
+            }
+            if (newFrom.equals(ticket.getFromPlanet().getId()) && newTo.equals(ticket.getToPlanet().getId())) {
+                throw new IllegalArgumentException("Ticket " + id + " already goes from " + newFrom + " to " + newTo
+                        + ". Please enter different planet IDs.");
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug("Updating planets of ticket {} to '{}' -> '{}'", id, newFrom, newTo);
+            }
+            // Both reuse the ticket loaded above, which is flushed once on commit
+            if (fromPlanet != null) {
+                ticketDao.updateFromPlanet(id, fromPlanet);
+            }
+            if (toPlanet != null) {
+                ticketDao.updateToPlanet(id, toPlanet);
+            }
+            return ticket;
+        });
+    }
+
+    public int rerouteFromPlanet(Collection<Long> ids, String fromPlanetId) {
+        validateIds(ids);
+        planetCatalog.findById(fromPlanetId)
+                .orElseThrow(() -> new PlanetNotFoundException("From planet not found with id: ", fromPlanetId));
 
-        logger.info("Updating toPlanet of ticket {} to '{}'", id, toPlanetId);
-        return ticketDao.updateToPlanet(id, toPlanet);
+        if (logger.isInfoEnabled()) {
+            logger.info("Rerouting fromPlanet of {} tickets to '{}'", ids.size(), fromPlanetId);
+        }
+        return ticketDao.rerouteFromPlanet(ids, fromPlanetId);
+    }
+
+    public int rerouteToPlanet(Collection<Long> ids, String toPlanetId) {
+        validateIds(ids);
+        planetCatalog.findById(toPlanetId)
+                .orElseThrow(() -> new PlanetNotFoundException("To planet not found with id: ", toPlanetId));
+
+        if (logger.isInfoEnabled()) {
+            logger.info("Rerouting toPlanet of {} tickets to '{}'", ids.size(), toPlanetId);
+        }
+        return ticketDao.rerouteToPlanet(ids, toPlanetId);
     }
 
     public void delete(Long id) {
         validateId(id);
-        ticketDao.findById(id)
-                .ifPresentOrElse(
-                        ticket -> {
-                            logger.info("Deleting ticket with ID: {}", id);
-                            ticketDao.delete(ticket);
-                        },
-                        () -> {
-                            logger.warn("Attempted to delete nonexistent ticket: {}", id);
-                            throw new TicketNotFoundException("Attempted to delete nonexistent ticket with id: ", id);
-                        }
-                );
-
+        logger.debug("Deleting ticket with ID: {}", id);
+        if (ticketDao.deleteById(id) == 0) {
+            logger.warn("Attempted to delete nonexistent ticket: {}", id);
+            throw new TicketNotFoundException("Attempted to delete nonexistent ticket with id: ", id);
+        }
     }
 
-    public void deleteAllByClientId(Long clientId) {
+    public int deleteAllByClientId(Long clientId) {
         validateId(clientId);
-        List<Ticket> tickets = ticketDao.findAllByClient(clientId);
-        if (tickets.isEmpty()) {
+        int deleted = ticketDao.deleteAllByClientId(clientId, deleteChunkSize);
+        if (deleted == 0) {
             logger.warn("Attempted to delete tickets for nonexistent clientId: {}", clientId);
             throw new TicketNotFoundException("No tickets found for clientId: ", clientId);
         }
-
-        tickets.forEach(ticket -> {
-            logger.info("Deleting ticket {} for clientId={}", ticket.getId(), clientId);
-            ticketDao.delete(ticket);
-        });
+        if (logger.isInfoEnabled()) {
+            logger.info("Deleted {} tickets for clientId={}", deleted, clientId);
+        }
+        return deleted;
     }
 
-    public void deleteAllByFromPlanetId(String fromPlanetId) {
+    public int deleteAllByFromPlanetId(String fromPlanetId) {
         validatePlanetId(fromPlanetId);
-        List<Ticket> tickets = ticketDao.findAllByFromPlanet(fromPlanetId);
-        if (tickets.isEmpty()) {
+        int deleted = ticketDao.deleteAllByFromPlanetId(fromPlanetId, deleteChunkSize);
+        if (deleted == 0) {
             logger.warn("Attempted to delete tickets for nonexistent fromPlanetId: {}", fromPlanetId);
             throw new TicketNotFoundException("No tickets found for fromPlanetId: ", fromPlanetId);
         }
-
-        tickets.forEach(ticket -> {
-            logger.info("Deleting ticket {} from fromPlanetId={}", ticket.getId(), fromPlanetId);
-            ticketDao.delete(ticket);
-        });
+        if (logger.isInfoEnabled()) {
+            logger.info("Deleted {} tickets from fromPlanetId={}", deleted, fromPlanetId);
+        }
+        return deleted;
     }
 
-    public void deleteAllByToPlanetId(String toPlanetId) {
+    public int deleteAllByToPlanetId(String toPlanetId) {
         validatePlanetId(toPlanetId);
-        List<Ticket> tickets = ticketDao.findAllByToPlanet(toPlanetId);
-        if (tickets.isEmpty()) {
+        int deleted = ticketDao.deleteAllByToPlanetId(toPlanetId, deleteChunkSize);
+        if (deleted == 0) {
             logger.warn("Attempted to delete tickets for nonexistent toPlanetId: {}", toPlanetId);
             throw new TicketNotFoundException("No tickets found for toPlanetId: ", toPlanetId);
         }
+        if (logger.isInfoEnabled()) {
+            logger.info("Deleted {} tickets to toPlanetId={}", deleted, toPlanetId);
+        }
+        return deleted;
+    }
 
-        tickets.forEach(ticket -> {
-            logger.info("Deleting ticket {} to toPlanetId={}", ticket.getId(), toPlanetId);
-            ticketDao.delete(ticket);
-        });
+    /**
+     * Upper-cased constraint name and driver message of the violation behind {@code e}, since not every dialect
+     * extracts the name; empty when {@code e} was not caused by a constraint violation.
+     */
+    private static String violatedConstraint(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return (violation.getConstraintName() + " " + violation.getSQLException().getMessage())
+                        .toUpperCase(Locale.ROOT);
+            }
+        }
+        return "";
     }
 
     private void validateData(Ticket ticket) {
-        if (ticket.getClient() == null || ticket.getFromPlanet() == null || ticket.getToPlanet() == null) {
+        if (ticket == null || ticket.getClient() == null || ticket.getFromPlanet() == null || ticket.getToPlanet() == null) {
             throw new IllegalArgumentException("Client, fromPlanet and toPlanet must not be null");
         }
     }
@@ -151,6 +385,22 @@ public class TicketCrudServiceImpl implements TicketCrudService {
         }
     }
 
+    private void validateIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("Ticket IDs must not be empty");
+        }
+        ids.forEach(this::validateId);
+    }
+
+    private void validatePage(Long afterId, int limit) {
+        if (afterId != null && afterId < 0) {
+            throw new IllegalArgumentException("Page cursor must not be negative");
+        }
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
     private void validatePlanetId(String id) {
         if (id == null || id.isBlank()) {
             throw new IllegalArgumentException("Planet id must not be empty");
@@ -8,10 +8,15 @@ public final class CommandActions {
     public static final String GET = "get";
     public static final String UPDATE = "update";
     public static final String DELETE = "delete";
+    public static final String COUNT = "count";
 
     // Tickets
+    public static final String PAGE = "page";
+    public static final String SEARCH = "search";
     public static final String UPDATE_FROM = "update-from";
     public static final String UPDATE_TO = "update-to";
+    public static final String REROUTE_FROM = "reroute-from";
+    public static final String REROUTE_TO = "reroute-to";
     public static final String DELETE_CLIENT = "delete-client";
     public static final String DELETE_FROM = "delete-from";
     public static final String DELETE_TO = "delete-to";
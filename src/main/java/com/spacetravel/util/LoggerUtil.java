@@ -1,18 +1,24 @@
 package com.spacetravel.util;
 
+import com.spacetravel.logging.AsyncLoggingProvider;
+import com.spacetravel.logging.LogSettings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public final class LoggerUtil {
 
     static {
-        String logLevel = System.getProperty("log.level", "info");
+        LogSettings settings = LogSettings.load();
 
-        System.setProperty("org.slf4j.simpleLogger.defaultLogLevel", logLevel);
+        if (settings.async()) {
+            // Bounded ring buffer + batched channel writes instead of synchronous slf4j-simple output
+            System.setProperty("slf4j.provider", AsyncLoggingProvider.class.getName());
+        }
+        System.setProperty("org.slf4j.simpleLogger.defaultLogLevel", settings.level().name().toLowerCase());
         System.setProperty("org.slf4j.simpleLogger.showDateTime", "true");
         System.setProperty("org.slf4j.simpleLogger.dateTimeFormat", "yyyy-MM-dd HH:mm:ss");
         System.setProperty("org.slf4j.simpleLogger.showThreadName", "false");
-        System.setProperty("org.slf4j.simpleLogger.logFile", "System.out");
+        System.setProperty("org.slf4j.simpleLogger.logFile", settings.file() != null ? settings.file() : "System.out");
     }
 
     private LoggerUtil() {
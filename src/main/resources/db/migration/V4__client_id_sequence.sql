@@ -0,0 +1,8 @@
+-- Sequence-backed client ids, mirroring ticket_seq from V3.
+-- INCREMENT BY must match the allocationSize of the Client id generator (pooled-lo optimizer).
+CREATE SEQUENCE client_seq START WITH 1 INCREMENT BY 50;
+
+ALTER SEQUENCE client_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM client);
+
+ALTER TABLE client ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE client ALTER COLUMN id SET DEFAULT NEXT VALUE FOR client_seq;
@@ -0,0 +1,12 @@
+-- Let the database remove a client's or planet's tickets in the same statement that deletes the parent,
+-- so deleting a client or planet no longer needs separate ticket deletes (or loading the tickets at all).
+ALTER TABLE ticket DROP CONSTRAINT fk_ticket_client;
+ALTER TABLE ticket DROP CONSTRAINT fk_ticket_from_planet;
+ALTER TABLE ticket DROP CONSTRAINT fk_ticket_to_planet;
+
+ALTER TABLE ticket ADD CONSTRAINT fk_ticket_client
+    FOREIGN KEY (client_id) REFERENCES client(id) ON DELETE CASCADE;
+ALTER TABLE ticket ADD CONSTRAINT fk_ticket_from_planet
+    FOREIGN KEY (from_planet_id) REFERENCES planet(id) ON DELETE CASCADE;
+ALTER TABLE ticket ADD CONSTRAINT fk_ticket_to_planet
+    FOREIGN KEY (to_planet_id) REFERENCES planet(id) ON DELETE CASCADE;
@@ -0,0 +1,19 @@
+-- Background deletion jobs for clients and planets with many tickets.
+-- last_ticket_id is the checkpoint: every ticket of the target up to it is already deleted, so a job
+-- restarted after a crash resumes from there.
+CREATE TABLE deletion_job (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    target_type VARCHAR(10) NOT NULL,
+    target_id VARCHAR(20) NOT NULL,
+    status VARCHAR(10) NOT NULL,
+    tickets_at_start BIGINT NOT NULL,
+    deleted_tickets BIGINT NOT NULL,
+    last_ticket_id BIGINT NOT NULL,
+    error VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    CONSTRAINT chk_deletion_job_target_type CHECK (target_type IN ('CLIENT', 'PLANET')),
+    CONSTRAINT chk_deletion_job_status CHECK (status IN ('PENDING', 'RUNNING', 'DONE', 'FAILED'))
+);
+
+CREATE INDEX idx_deletion_job_status ON deletion_job (status);
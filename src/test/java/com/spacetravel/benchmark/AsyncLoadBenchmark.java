@@ -0,0 +1,107 @@
+package com.spacetravel.benchmark;
+
+import com.spacetravel.config.DatabaseExecutor;
+import com.spacetravel.config.HibernateUtil;
+import com.spacetravel.config.PoolMetrics;
+import com.spacetravel.dao.ClientDaoImpl;
+import com.spacetravel.dao.PlanetDaoImpl;
+import com.spacetravel.dao.TicketDaoImpl;
+import com.spacetravel.service.AsyncClientCrudService;
+import com.spacetravel.service.AsyncClientCrudServiceImpl;
+import com.spacetravel.service.AsyncTicketCrudService;
+import com.spacetravel.service.AsyncTicketCrudServiceImpl;
+import com.spacetravel.service.ClientCrudServiceImpl;
+import com.spacetravel.service.PlanetCatalog;
+import com.spacetravel.service.TicketCrudServiceImpl;
+import org.flywaydb.core.Flyway;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Fires concurrent requests (client lookup plus that client's ticket views, preceded by simulated downstream
+ * I/O) through the async services, once on a fixed platform-thread pool and once on virtual threads. Both runs
+ * share the same semaphore in front of the connection pool.
+ * Run with {@code ./gradlew asyncBenchmark [-PbenchRequests=1000] [-PbenchIoMillis=20]}.
+ */
+public final class AsyncLoadBenchmark {
+
+    private static final String URL = "jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=false";
+    private static final int PLATFORM_THREADS = 200;
+    private static final int CLIENTS = 10;
+
+    private AsyncLoadBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        System.setProperty("config.file", "application-test.properties");
+        int requests = Integer.getInteger("bench.requests", 1_000);
+        long ioMillis = Long.getLong("bench.ioMillis", 20);
+
+        Flyway.configure()
+                .dataSource(URL, "sa", "")
+                .locations("filesystem:src/test/resources/db/migration")
+                .load()
+                .migrate();
+        int permits = HibernateUtil.getPoolMetrics().map(PoolMetrics::maxSize).orElse(10);
+
+        System.out.println("Async load benchmark: " + requests + " concurrent requests, "
+                + ioMillis + " ms simulated I/O, " + permits + " database permits");
+        try {
+            // Warm up Hibernate and the JIT before measuring
+            measure("warm-up", () -> Executors.newFixedThreadPool(PLATFORM_THREADS), permits, requests, 0);
+            measure("platform (" + PLATFORM_THREADS + " threads)",
+                    () -> Executors.newFixedThreadPool(PLATFORM_THREADS), permits, requests, ioMillis);
+            measure("virtual threads", Executors::newVirtualThreadPerTaskExecutor, permits, requests, ioMillis);
+        } finally {
+            HibernateUtil.shutdown();
+        }
+    }
+
+    private static void measure(String label, Supplier<ExecutorService> threads, int permits,
+                                int requests, long ioMillis) {
+        ExecutorService pool = threads.get();
+        try (DatabaseExecutor executor = new DatabaseExecutor(pool, permits)) {
+            AsyncClientCrudService clients = new AsyncClientCrudServiceImpl(
+                    new ClientCrudServiceImpl(new ClientDaoImpl()), executor);
+            AsyncTicketCrudService tickets = new AsyncTicketCrudServiceImpl(
+                    new TicketCrudServiceImpl(new TicketDaoImpl(), new PlanetCatalog(new PlanetDaoImpl())), executor);
+
+            long[] latencies = new long[requests];
+            List<CompletableFuture<?>> futures = new ArrayList<>(requests);
+            long start = System.nanoTime();
+            for (int i = 0; i < requests; i++) {
+                int request = i;
+                long clientId = i % CLIENTS + 1;
+                long submitted = System.nanoTime();
+                futures.add(CompletableFuture.runAsync(() -> sleep(ioMillis), pool)
+                        .thenCompose(ignored -> clients.findById(clientId))
+                        .thenCompose(client -> tickets.findViewsByClient(client.getId()))
+                        .whenComplete((views, e) -> latencies[request] = System.nanoTime() - submitted));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            long totalMillis = (System.nanoTime() - start) / 1_000_000;
+
+            Arrays.sort(latencies);
+            System.out.printf("%-28s total %6d ms, %8.1f req/s, p50 %6.1f ms, p99 %6.1f ms%n",
+                    label, totalMillis, requests * 1000.0 / Math.max(totalMillis, 1),
+                    latencies[requests / 2] / 1_000_000.0, latencies[requests * 99 / 100] / 1_000_000.0);
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.spacetravel.benchmark;
+
+import com.spacetravel.config.HibernateUtil;
+import com.spacetravel.dao.TicketDaoImpl;
+import com.spacetravel.entity.Ticket;
+import org.flywaydb.core.Flyway;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * Compares deleting all tickets of one planet row by row (load the list, one transaction per ticket)
+ * with a single set-based DELETE and with chunked set-based DELETEs.
+ * Run with {@code ./gradlew deleteBenchmark [-PbenchTickets=100000]}.
+ */
+public final class TicketDeleteBenchmark {
+
+    private static final String URL = "jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=false";
+    private static final String PLANET_ID = "PLN003";
+    private static final int CHUNK_SIZE = 5000;
+
+    private TicketDeleteBenchmark() {
+    }
+
+    public static void main(String[] args) throws SQLException {
+        System.setProperty("config.file", "application-test.properties");
+        int tickets = Integer.getInteger("bench.tickets", 100_000);
+
+        Flyway.configure()
+                .dataSource(URL, "sa", "")
+                .locations("filesystem:src/test/resources/db/migration")
+                .load()
+                .migrate();
+        TicketDaoImpl ticketDao = new TicketDaoImpl();
+
+        System.out.println("Ticket delete benchmark: " + tickets + " tickets from planet " + PLANET_ID);
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "")) {
+            measure(connection, tickets, "row by row", () -> {
+                List<Ticket> loaded = ticketDao.findAllByFromPlanet(PLANET_ID);
+                loaded.forEach(ticketDao::delete);
+                return loaded.size();
+            });
+            measure(connection, tickets, "single statement",
+                    () -> ticketDao.deleteAllByFromPlanetId(PLANET_ID));
+            measure(connection, tickets, "chunks of " + CHUNK_SIZE,
+                    () -> ticketDao.deleteAllByFromPlanetId(PLANET_ID, CHUNK_SIZE));
+        } finally {
+            HibernateUtil.shutdown();
+        }
+    }
+
+    private static void measure(Connection connection, int tickets, String label, IntSupplier delete)
+            throws SQLException {
+        seed(connection, tickets);
+        long start = System.nanoTime();
+        int deleted = delete.getAsInt();
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("%-20s deleted %d rows in %d ms%n", label, deleted, millis);
+    }
+
+    private static void seed(Connection connection, int tickets) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM ticket");
+            statement.execute("INSERT INTO ticket (created_at, client_id, from_planet_id, to_planet_id) "
+                    + "SELECT DATEADD('SECOND', -X, CURRENT_TIMESTAMP), MOD(X, 10) + 1, '" + PLANET_ID + "', "
+                    + "CONCAT('PLN00', MOD(X, 2) * 2 + 2) "
+                    + "FROM SYSTEM_RANGE(1, " + tickets + ")");
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.spacetravel.benchmark;
+
+import org.flywaydb.core.Flyway;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares query plans and latencies of the ticket lookups with and without the V5 indexes. Each row runs the
+ * predicate of the {@code TicketDaoImpl} method it is named after. The baseline is not index-free: H2 indexes
+ * every foreign-key column on its own, so V5 changes the date lookups most and adds created_at to the others.
+ * Run with {@code ./gradlew indexBenchmark [-PbenchTickets=1000000]}.
+ */
+public final class TicketIndexBenchmark {
+
+    private static final int CLIENTS = 10_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final Instant DAY = Instant.parse("2025-03-15T00:00:00Z");
+
+    private static final List<BenchmarkQuery> QUERIES = List.of(
+            new BenchmarkQuery("findAllByClient",
+                    "SELECT * FROM ticket WHERE client_id = ?", 1_042L),
+            new BenchmarkQuery("findAllByFromPlanet",
+                    "SELECT * FROM ticket WHERE from_planet_id = ?", "PLN003"),
+            new BenchmarkQuery("findAllByToPlanet",
+                    "SELECT * FROM ticket WHERE to_planet_id = ?", "PLN004"),
+            new BenchmarkQuery("findAllByDate",
+                    "SELECT * FROM ticket WHERE created_at >= ? AND created_at < ?",
+                    Timestamp.from(DAY), Timestamp.from(DAY.plusSeconds(86_400))),
+            new BenchmarkQuery("countByClient",
+                    "SELECT COUNT(*) FROM ticket WHERE client_id = ?", 1_042L),
+            // ticket search --planet: one OR query versus the two per-direction queries TicketDao.search runs
+            new BenchmarkQuery("searchByPlanet (OR)",
+                    "SELECT * FROM ticket WHERE (from_planet_id = ? OR to_planet_id = ?) "
+                            + "AND created_at >= ? AND created_at < ?",
+                    "PLN003", "PLN003", Timestamp.from(DAY), Timestamp.from(DAY.plusSeconds(86_400))),
+            new BenchmarkQuery("searchByPlanet (from branch)",
+                    "SELECT * FROM ticket WHERE from_planet_id = ? AND created_at >= ? AND created_at < ?",
+                    "PLN003", Timestamp.from(DAY), Timestamp.from(DAY.plusSeconds(86_400))),
+            new BenchmarkQuery("searchByPlanet (to branch)",
+                    "SELECT * FROM ticket WHERE to_planet_id = ? AND from_planet_id <> ? "
+                            + "AND created_at >= ? AND created_at < ?",
+                    "PLN003", "PLN003", Timestamp.from(DAY), Timestamp.from(DAY.plusSeconds(86_400)))
+    );
+
+    private TicketIndexBenchmark() {
+    }
+
+    public static void main(String[] args) throws SQLException {
+        int tickets = Integer.getInteger("bench.tickets", 1_000_000);
+
+        System.out.println("Ticket index benchmark: " + tickets + " tickets, " + CLIENTS + " clients");
+        run("before (V4, H2's single-column foreign-key indexes only)", "jdbc:h2:mem:bench_before;DB_CLOSE_DELAY=-1", "4", tickets);
+        run("after (V5 indexes)", "jdbc:h2:mem:bench_after;DB_CLOSE_DELAY=-1", null, tickets);
+    }
+
+    private static void run(String label, String url, String targetVersion, int tickets) throws SQLException {
+        var configuration = Flyway.configure()
+                .dataSource(url, "sa", "")
+                .locations("filesystem:src/main/resources/db/migration");
+        if (targetVersion != null) {
+            configuration.target(targetVersion);
+        }
+        configuration.load().migrate();
+
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            long loadStart = System.nanoTime();
+            seed(connection, tickets);
+            long loadMillis = (System.nanoTime() - loadStart) / 1_000_000;
+
+            System.out.println();
+            System.out.println("== " + label + " – seeded in " + loadMillis + " ms");
+            for (BenchmarkQuery query : QUERIES) {
+                System.out.println("-- " + query.name());
+                System.out.println(explain(connection, query));
+                double median = query.medianMillis(connection);
+                System.out.printf("   median %.3f ms, min %.3f ms, rows %d%n", median, query.minMillis, query.rows);
+            }
+        }
+    }
+
+    private static void seed(Connection connection, int tickets) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM ticket");
+            statement.execute("INSERT INTO client (id, name) "
+                    + "SELECT 1000 + X, CONCAT('Bench client ', X) FROM SYSTEM_RANGE(1, " + CLIENTS + ")");
+            statement.execute("INSERT INTO ticket (id, created_at, client_id, from_planet_id, to_planet_id) "
+                    + "SELECT X, "
+                    + "DATEADD('SECOND', -MOD(X * 7919, 31536000), TIMESTAMP '2025-12-31 00:00:00'), "
+                    + "1001 + MOD(X, " + CLIENTS + "), "
+                    + "CONCAT('PLN00', MOD(X, 5) + 1), "
+                    + "CONCAT('PLN00', MOD(X + 1, 5) + 1) "
+                    + "FROM SYSTEM_RANGE(1, " + tickets + ")");
+            statement.execute("ANALYZE");
+        }
+    }
+
+    private static String explain(Connection connection, BenchmarkQuery query) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + query.sql())) {
+            query.bind(statement);
+            try (ResultSet rs = statement.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (rs.next()) {
+                    plan.append("   ").append(rs.getString(1).replace("\n", "\n   "));
+                }
+                return plan.toString();
+            }
+        }
+    }
+
+    private static final class BenchmarkQuery {
+        private final String name;
+        private final String sql;
+        private final Object[] params;
+        private double minMillis = Double.MAX_VALUE;
+        private long rows;
+
+        private BenchmarkQuery(String name, String sql, Object... params) {
+            this.name = name;
+            this.sql = sql;
+            this.params = params;
+        }
+
+        String name() {
+            return name;
+        }
+
+        String sql() {
+            return sql;
+        }
+
+        void bind(PreparedStatement statement) throws SQLException {
+            for (int i = 0; i < params.length; i++) {
+                statement.setObject(i + 1, params[i]);
+            }
+        }
+
+        double medianMillis(Connection connection) throws SQLException {
+            minMillis = Double.MAX_VALUE;
+            double[] samples = new double[MEASURED_ROUNDS];
+            for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+                long start = System.nanoTime();
+                rows = execute(connection);
+                double elapsed = (System.nanoTime() - start) / 1_000_000.0;
+                if (round >= WARMUP_ROUNDS) {
+                    samples[round - WARMUP_ROUNDS] = elapsed;
+                    minMillis = Math.min(minMillis, elapsed);
+                }
+            }
+            Arrays.sort(samples);
+            return samples[MEASURED_ROUNDS / 2];
+        }
+
+        private long execute(Connection connection) throws SQLException {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                bind(statement);
+                long count = 0;
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        count++;
+                    }
+                }
+                return count;
+            }
+        }
+    }
+}
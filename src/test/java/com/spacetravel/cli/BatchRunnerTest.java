@@ -0,0 +1,137 @@
+package com.spacetravel.cli;
+
+import com.spacetravel.dao.ClientDaoImpl;
+import com.spacetravel.dao.PlanetDaoImpl;
+import com.spacetravel.dao.TicketDaoImpl;
+import com.spacetravel.service.ClientCrudService;
+import com.spacetravel.service.ClientCrudServiceImpl;
+import com.spacetravel.service.PlanetCatalog;
+import com.spacetravel.service.PlanetCrudServiceImpl;
+import com.spacetravel.service.TicketCrudService;
+import com.spacetravel.service.TicketCrudServiceImpl;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class BatchRunnerTest {
+
+    private ClientCrudService clientService;
+    private TicketCrudService ticketService;
+    private PlanetCrudServiceImpl planetService;
+    private ByteArrayOutputStream output;
+
+    @BeforeAll
+    void setUp() {
+        System.setProperty("config.file", "application-test.properties");
+
+        Flyway flyway = Flyway.configure()
+                .dataSource("jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=false", "sa", "")
+                .locations("filesystem:src/test/resources/db/migration")
+                .load();
+        flyway.migrate();
+
+        PlanetDaoImpl planetDao = new PlanetDaoImpl();
+        TicketDaoImpl ticketDao = new TicketDaoImpl();
+        PlanetCatalog planetCatalog = new PlanetCatalog(planetDao);
+        clientService = new ClientCrudServiceImpl(new ClientDaoImpl());
+        planetService = new PlanetCrudServiceImpl(planetDao, planetCatalog);
+        ticketService = new TicketCrudServiceImpl(ticketDao, planetCatalog);
+    }
+
+    private BatchRunner runner(boolean continueOnError) {
+        output = new ByteArrayOutputStream();
+        return new BatchRunner(clientService, planetService, ticketService, continueOnError,
+                new PrintStream(output, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @Order(1)
+    void givenScriptWithTicketCreates_whenRun_thenAllTicketsAreCreatedInOneTransaction() throws IOException {
+        // Given
+        long before = ticketService.findAll().size();
+        String script = """
+                # seed a few tickets
+                ticket create 1 PLN001 PLN002
+                ticket create 1 PLN002 PLN003
+
+                ticket create 2 PLN003 PLN004
+                """;
+
+        // When
+        BatchSummary summary = runner(false).run(new StringReader(script));
+
+        // Then
+        assertEquals(3, summary.succeeded());
+        assertEquals(0, summary.failed());
+        assertEquals(1, summary.transactions());
+        assertEquals(before + 3, ticketService.findAll().size());
+        assertTrue(output.toString(StandardCharsets.UTF_8).contains("line 5: OK"));
+    }
+
+    @Test
+    @Order(2)
+    void givenScriptWithClientCreates_whenRun_thenClientsShareOneTransaction() throws IOException {
+        // Given
+        String script = """
+                client create Batch Client One
+                client create Batch Client Two
+                """;
+
+        // When
+        BatchSummary summary = runner(false).run(new StringReader(script));
+
+        // Then
+        assertEquals(2, summary.succeeded());
+        assertEquals(1, summary.transactions());
+        assertTrue(clientService.findAll().stream().anyMatch(c -> "Batch Client Two".equals(c.getName())));
+    }
+
+    @Test
+    @Order(3)
+    void givenFailingCommand_whenStopOnError_thenRemainingCommandsAreSkipped() throws IOException {
+        // Given
+        String script = """
+                ticket create 1 PLN001 PLN001
+                ticket create 1 PLN001 PLN002
+                client create Skipped Client
+                """;
+
+        // When
+        BatchSummary summary = runner(false).run(new StringReader(script));
+
+        // Then
+        assertEquals(0, summary.succeeded());
+        assertEquals(1, summary.failed());
+        assertEquals(2, summary.skipped());
+        assertTrue(output.toString(StandardCharsets.UTF_8).contains("line 1: FAILED"));
+    }
+
+    @Test
+    @Order(4)
+    void givenFailingCommand_whenContinueOnError_thenValidCommandsStillRun() throws IOException {
+        // Given
+        String script = """
+                ticket create 1 PLN001 PLN002
+                ticket create 1 NOPE01 PLN002
+                ticket create 3 PLN004 PLN005
+                """;
+
+        // When
+        BatchSummary summary = runner(true).run(new StringReader(script));
+
+        // Then
+        assertEquals(2, summary.succeeded());
+        assertEquals(1, summary.failed());
+        assertEquals(0, summary.skipped());
+        assertEquals(3, summary.total());
+    }
+}
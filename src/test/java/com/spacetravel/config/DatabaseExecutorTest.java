@@ -0,0 +1,70 @@
+package com.spacetravel.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatabaseExecutorTest {
+
+    @Test
+    void givenManyTasks_whenSupplied_thenConcurrencyNeverExceedsPermits() {
+        // Given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        // When
+        try (DatabaseExecutor executor = new DatabaseExecutor(Executors.newVirtualThreadPerTaskExecutor(), 3)) {
+            for (int i = 0; i < 100; i++) {
+                int task = i;
+                futures.add(executor.supply(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep(2);
+                    running.decrementAndGet();
+                    return task;
+                }));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+            // Then
+            assertEquals(3, executor.getAvailablePermits());
+        }
+        assertTrue(maxRunning.get() <= 3, "at most 3 tasks may run at once, saw " + maxRunning.get());
+        assertEquals(99, futures.get(99).join());
+    }
+
+    @Test
+    void givenFailingTask_whenSupplied_thenFutureCompletesExceptionallyAndPermitIsReleased() {
+        try (DatabaseExecutor executor = new DatabaseExecutor(1)) {
+            // When
+            CompletableFuture<Object> failed = executor.supply(() -> {
+                throw new IllegalArgumentException("boom");
+            });
+
+            // Then
+            CompletionException ex = assertThrows(CompletionException.class, failed::join);
+            assertInstanceOf(IllegalArgumentException.class, ex.getCause());
+            assertEquals("ok", executor.supply(() -> "ok").join());
+        }
+    }
+
+    @Test
+    void givenNonPositiveConcurrency_whenCreate_thenThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new DatabaseExecutor(0));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
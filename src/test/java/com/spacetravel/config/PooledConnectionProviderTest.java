@@ -0,0 +1,82 @@
+package com.spacetravel.config;
+
+import com.spacetravel.exception.ConfigurationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PooledConnectionProviderTest {
+
+    private final PooledConnectionProvider provider = new PooledConnectionProvider();
+
+    @AfterEach
+    void tearDown() {
+        provider.stop();
+    }
+
+    private Map<String, Object> settings() {
+        Map<String, Object> settings = new HashMap<>();
+        settings.put("hibernate.connection.url", "jdbc:h2:mem:pooltest;DB_CLOSE_DELAY=-1");
+        settings.put("hibernate.connection.driver_class", "org.h2.Driver");
+        settings.put("hibernate.connection.username", "sa");
+        settings.put("hibernate.connection.password", "");
+        settings.put(PooledConnectionProvider.MIN_IDLE, "1");
+        settings.put(PooledConnectionProvider.MAX_SIZE, "3");
+        return settings;
+    }
+
+    @Test
+    void givenValidSettings_whenConfigure_thenMetricsReflectMaxSize() {
+        // Given
+        provider.configure(settings());
+
+        // When
+        PoolMetrics metrics = provider.getMetrics();
+
+        // Then
+        assertEquals(3, metrics.maxSize());
+        assertEquals(0, metrics.active());
+    }
+
+    @Test
+    void givenBorrowedConnection_whenGetMetrics_thenActiveIsCounted() throws Exception {
+        // Given
+        provider.configure(settings());
+
+        // When
+        Connection connection = provider.getConnection();
+        PoolMetrics whileBorrowed = provider.getMetrics();
+        provider.closeConnection(connection);
+        PoolMetrics afterRelease = provider.getMetrics();
+
+        // Then
+        assertEquals(1, whileBorrowed.active());
+        assertEquals(0, afterRelease.active());
+        assertTrue(afterRelease.idle() >= 1);
+    }
+
+    @Test
+    void givenMinIdleAboveMaxSize_whenConfigure_thenThrowConfigurationException() {
+        // Given
+        Map<String, Object> settings = settings();
+        settings.put(PooledConnectionProvider.MIN_IDLE, "5");
+
+        // When / Then
+        assertThrows(ConfigurationException.class, () -> provider.configure(settings));
+    }
+
+    @Test
+    void givenNonNumericPoolSize_whenConfigure_thenThrowConfigurationException() {
+        // Given
+        Map<String, Object> settings = settings();
+        settings.put(PooledConnectionProvider.MAX_SIZE, "many");
+
+        // When / Then
+        assertThrows(ConfigurationException.class, () -> provider.configure(settings));
+    }
+}
@@ -0,0 +1,65 @@
+package com.spacetravel.config;
+
+import com.spacetravel.dao.TicketDaoImpl;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryStatisticsTest {
+
+    private TicketDaoImpl ticketDao;
+
+    @BeforeAll
+    void setUp() {
+        System.setProperty("config.file", "application-test.properties");
+
+        Flyway flyway = Flyway.configure()
+                .dataSource("jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=false", "sa", "")
+                .locations("filesystem:src/test/resources/db/migration")
+                .load();
+        flyway.migrate();
+
+        ticketDao = new TicketDaoImpl();
+    }
+
+    @Test
+    void givenStatisticsMode_whenSessionFactoryBuilt_thenQueryStatisticsAreActive() {
+        // Then
+        assertInstanceOf(QueryStatistics.class, HibernateUtil.getStatistics());
+        assertTrue(HibernateUtil.getStatistics().isStatisticsEnabled());
+    }
+
+    @Test
+    void givenExecutedQuery_whenGetQueryStatistics_thenAggregatesIncludeIt() {
+        // Given
+        int rows = ticketDao.findAllByClient(1L).size();
+        ticketDao.findAllByClient(1L);
+
+        // When
+        List<QueryStats> stats = HibernateUtil.getQueryStatistics();
+
+        // Then
+        QueryStats byClient = stats.stream()
+                .filter(query -> query.query().contains("t.client.id = :clientId"))
+                .findFirst()
+                .orElseThrow();
+        assertTrue(byClient.count() >= 2);
+        assertTrue(byClient.rows() >= 2L * rows);
+        assertTrue(byClient.maxMillis() >= byClient.p99Millis());
+    }
+
+    @Test
+    void givenQueryWithParameters_whenParameterNames_thenNamesAreExtractedInOrder() {
+        // When
+        Set<String> names = QueryStatistics.parameterNames(
+                "FROM Ticket t WHERE t.createdAt >= :startOfDay AND t.createdAt < :endOfDay AND t.id > ?1");
+
+        // Then
+        assertEquals(List.of("startOfDay", "endOfDay", "?1"), List.copyOf(names));
+    }
+}
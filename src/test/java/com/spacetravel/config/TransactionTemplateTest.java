@@ -0,0 +1,89 @@
+package com.spacetravel.config;
+
+import com.spacetravel.dao.ClientDaoImpl;
+import com.spacetravel.entity.Client;
+import com.spacetravel.exception.DataProcessingException;
+import org.flywaydb.core.Flyway;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TransactionTemplateTest {
+
+    private TransactionTemplate transactions;
+    private ClientDaoImpl clientDao;
+
+    @BeforeAll
+    void setUp() {
+        System.setProperty("config.file", "application-test.properties");
+
+        Flyway flyway = Flyway.configure()
+                .dataSource("jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=false", "sa", "")
+                .locations("filesystem:src/test/resources/db/migration")
+                .load();
+        flyway.migrate();
+
+        transactions = new TransactionTemplate();
+        clientDao = new ClientDaoImpl();
+    }
+
+    @Test
+    void givenNestedUnits_whenExecute_thenTheyShareOneSessionClosedOnCompletion() {
+        // When
+        Session[] sessions = transactions.execute(outer ->
+                transactions.executeReadOnly(inner -> new Session[]{outer, inner}));
+
+        // Then
+        assertSame(sessions[0], sessions[1]);
+        assertFalse(sessions[0].isOpen());
+    }
+
+    @Test
+    void givenFailureAfterSave_whenExecute_thenSaveIsRolledBack() {
+        // Given
+        Client client = new Client();
+        client.setName("Rolled Back Client");
+
+        // When
+        assertThrows(IllegalStateException.class, () -> transactions.executeWithoutResult(session -> {
+            clientDao.save(client);
+            throw new IllegalStateException("boom");
+        }));
+
+        // Then
+        assertTrue(clientDao.findAll().stream().noneMatch(c -> "Rolled Back Client".equals(c.getName())));
+    }
+
+    @Test
+    void givenFailedNestedCallSwallowedByCaller_whenExecute_thenWholeUnitIsRolledBack() {
+        // Given
+        Client client = new Client();
+        client.setName("Rollback Only Client");
+
+        // When
+        assertThrows(DataProcessingException.class, () -> transactions.executeWithoutResult(session -> {
+            clientDao.save(client);
+            try {
+                transactions.executeWithoutResult(inner -> {
+                    throw new IllegalArgumentException("nested failure");
+                });
+            } catch (IllegalArgumentException ignored) {
+                // caller carries on, but the unit is already rollback-only
+            }
+        }));
+
+        // Then
+        assertTrue(clientDao.findAll().stream().noneMatch(c -> "Rollback Only Client".equals(c.getName())));
+    }
+
+    @Test
+    void givenReadOnlyUnit_whenNestedWriteIsAttempted_thenItIsRejected() {
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> transactions.executeReadOnly(session ->
+                transactions.execute(inner -> null)));
+    }
+}
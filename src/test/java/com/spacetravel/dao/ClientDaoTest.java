@@ -1,6 +1,8 @@
 package com.spacetravel.dao;
 
 import com.spacetravel.entity.Client;
+import com.spacetravel.entity.Planet;
+import com.spacetravel.entity.Ticket;
 import org.flywaydb.core.Flyway;
 import org.junit.jupiter.api.*;
 
@@ -105,4 +107,50 @@ class ClientDaoTest {
         assertEquals("Find Me", actualClient.getName(), "Client name should match the saved one");
         assertEquals(clientId, actualClient.getId(), "Client ID should match the saved one");
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenClientWithTickets_whenDeleteById_thenTicketsAreDeletedByCascade() {
+        // Given
+        PlanetDaoImpl planetDao = new PlanetDaoImpl();
+        TicketDaoImpl ticketDao = new TicketDaoImpl();
+        Planet from = planetDao.save(new Planet("CDF", "Client Delete From"));
+        Planet to = planetDao.save(new Planet("CDT", "Client Delete To"));
+        Client client = clientDao.save(new Client("Cascade Client"));
+        ticketDao.save(new Ticket(client, from, to));
+        ticketDao.save(new Ticket(client, to, from));
+
+        // When
+        int deleted = clientDao.deleteById(client.getId());
+
+        // Then
+        assertEquals(1, deleted);
+        assertTrue(clientDao.findById(client.getId()).isEmpty());
+        assertTrue(ticketDao.findAllByClient(client.getId()).isEmpty(), "Tickets should be removed with the client");
+        assertTrue(planetDao.findById("CDF").isPresent(), "Planets should not be affected");
+    }
+
+    @Test
+    void givenNonExistingClientId_whenDeleteById_thenZeroRowsDeleted() {
+        // When
+        int deleted = clientDao.deleteById(987654L);
+
+        // Then
+        assertEquals(0, deleted);
+    }
+
+    @Test
+    void givenSavedClient_whenExistsByIdAndCount_thenClientIsCountedWithoutLoading() {
+        // Given
+        long before = clientDao.count();
+        Client client = clientDao.save(new Client("Counted Client"));
+
+        // When
+        boolean exists = clientDao.existsById(client.getId());
+        long after = clientDao.count();
+
+        // Then
+        assertTrue(exists);
+        assertFalse(clientDao.existsById(987654L));
+        assertEquals(before + 1, after);
+    }
+}
@@ -0,0 +1,84 @@
+package com.spacetravel.dao;
+
+import com.spacetravel.entity.Client;
+import com.spacetravel.entity.Ticket;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.*;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DataGeneratorTest {
+
+    private static final LocalDate LAST_DAY = LocalDate.of(2020, 1, 31);
+
+    private DataGenerator dataGenerator;
+    private ClientDaoImpl clientDao;
+    private TicketDaoImpl ticketDao;
+
+    @BeforeAll
+    void setUp() {
+        System.setProperty("config.file", "application-test.properties");
+
+        Flyway flyway = Flyway.configure()
+                .dataSource("jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=false", "sa", "")
+                .locations("filesystem:src/test/resources/db/migration")
+                .load();
+        flyway.migrate();
+
+        dataGenerator = new DataGenerator();
+        clientDao = new ClientDaoImpl();
+        ticketDao = new TicketDaoImpl();
+    }
+
+    @Test
+    void givenSpec_whenGenerate_thenRowsAreLoadedWithSkewedDistributions() {
+        // Given
+        int clientsBefore = clientDao.findAll().size();
+        DataGenerator.Spec spec = new DataGenerator.Spec(50, 4, 2_000, 10, LAST_DAY, 7L);
+
+        // When
+        List<DataGenerator.Result> results = dataGenerator.generate(spec);
+
+        // Then
+        assertEquals(List.of("client", "planet", "ticket"), results.stream().map(DataGenerator.Result::table).toList());
+        assertEquals(clientsBefore + 50, clientDao.findAll().size());
+
+        List<Ticket> tickets = ticketDao.findAll().stream()
+                .filter(t -> t.getFromPlanet().getId().startsWith("GEN"))
+                .toList();
+        assertEquals(2_000, tickets.size());
+        assertTrue(tickets.stream().noneMatch(t -> t.getFromPlanet().getId().equals(t.getToPlanet().getId())));
+        assertTrue(tickets.stream().allMatch(t -> {
+            LocalDate day = t.getCreatedAt().atZone(ZoneId.systemDefault()).toLocalDate();
+            return !day.isAfter(LAST_DAY) && !day.isBefore(LAST_DAY.minusDays(9));
+        }));
+
+        Map<Long, Long> perClient = tickets.stream()
+                .collect(Collectors.groupingBy(t -> t.getClient().getId(), Collectors.counting()));
+        long busiest = perClient.values().stream().max(Comparator.naturalOrder()).orElse(0L);
+        assertTrue(busiest > 2_000 / 50 * 3, "hot clients should buy far more than the average");
+    }
+
+    @Test
+    void givenGeneratedClients_whenHibernateSavesClient_thenIdDoesNotCollide() {
+        // Given
+        dataGenerator.generate(new DataGenerator.Spec(120, 0, 0, 1, LAST_DAY, 1L));
+
+        // When
+        Client saved = clientDao.save(new Client("After Generation"));
+
+        // Then
+        Map<Long, Client> byId = clientDao.findAll().stream()
+                .collect(Collectors.toMap(Client::getId, Function.identity()));
+        assertEquals("After Generation", byId.get(saved.getId()).getName());
+    }
+}
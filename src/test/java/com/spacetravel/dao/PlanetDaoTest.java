@@ -1,6 +1,12 @@
 package com.spacetravel.dao;
 
+import com.spacetravel.config.CacheConfig;
+import com.spacetravel.config.HibernateUtil;
+import com.spacetravel.entity.Client;
 import com.spacetravel.entity.Planet;
+import com.spacetravel.entity.Ticket;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
 import org.flywaydb.core.Flyway;
 import org.junit.jupiter.api.*;
 
@@ -134,4 +140,81 @@ class PlanetDaoTest {
         assertEquals("NEP", actualPlanet.getId(), "Planet ID should match the saved one");
         assertEquals("Neptune", actualPlanet.getName(), "Planet name should match the saved one");
     }
+
+    @Test
+    void givenCachedPlanet_whenFindByIdTwice_thenSecondLookupHitsSecondLevelCache() {
+        // Given
+        planetDao.save(new Planet("CCH", "Cached"));
+        Statistics statistics = HibernateUtil.getSessionFactory().getStatistics();
+        planetDao.findById("CCH");
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(CacheConfig.PLANET_REGION);
+        long hitsBefore = region.getHitCount();
+
+        // When
+        Planet cached = planetDao.findById("CCH").orElse(null);
+
+        // Then
+        assertNotNull(cached);
+        assertTrue(region.getHitCount() > hitsBefore, "Second lookup should be served from the cache");
+    }
+
+    @Test
+    void givenCachedPlanet_whenUpdate_thenCacheReturnsNewName() {
+        // Given
+        Planet planet = planetDao.save(new Planet("CCU", "Before"));
+        planetDao.findById("CCU");
+        planetDao.findByName("Before");
+
+        // When
+        planet.setName("After");
+        planetDao.update(planet);
+
+        // Then
+        assertEquals("After", planetDao.findById("CCU").map(Planet::getName).orElse(null));
+        assertTrue(planetDao.findByName("Before").isEmpty());
+        assertTrue(planetDao.findByName("After").isPresent());
+    }
+
+    @Test
+    void givenPlanetOnTicketRoutes_whenDeleteById_thenTicketsAreDeletedByCascade() {
+        // Given
+        ClientDaoImpl clientDao = new ClientDaoImpl();
+        TicketDaoImpl ticketDao = new TicketDaoImpl();
+        Planet doomed = planetDao.save(new Planet("PDD", "Planet Delete Doomed"));
+        Planet other = planetDao.save(new Planet("PDO", "Planet Delete Other"));
+        Client client = clientDao.save(new Client("Planet Cascade Client"));
+        ticketDao.save(new Ticket(client, doomed, other));
+        ticketDao.save(new Ticket(client, other, doomed));
+        planetDao.findById("PDD");
+
+        // When
+        int deleted = planetDao.deleteById("PDD");
+
+        // Then
+        assertEquals(1, deleted);
+        assertTrue(planetDao.findById("PDD").isEmpty(), "Cached planet should be evicted");
+        assertTrue(planetDao.findByName("Planet Delete Doomed").isEmpty());
+        assertTrue(ticketDao.findAllByFromPlanet("PDD").isEmpty());
+        assertTrue(ticketDao.findAllByToPlanet("PDD").isEmpty());
+        assertTrue(ticketDao.findAllByClient(client.getId()).isEmpty(), "Both routes touched the planet");
+    }
+
+    @Test
+    void givenNonExistingPlanetId_whenDeleteById_thenZeroRowsDeleted() {
+        // When
+        int deleted = planetDao.deleteById("NOPE404");
+
+        // Then
+        assertEquals(0, deleted);
+    }
+
+    @Test
+    void givenSavedPlanet_whenExistsById_thenOnlyThatIdExists() {
+        // Given
+        planetDao.save(new Planet("PEX", "Planet Exists"));
+
+        // When & Then
+        assertTrue(planetDao.existsById("PEX"));
+        assertFalse(planetDao.existsById("NOPE404"));
+    }
 }
@@ -1,19 +1,27 @@
 package com.spacetravel.dao;
 
 import com.spacetravel.config.HibernateUtil;
+import com.spacetravel.dto.TicketSearch;
+import com.spacetravel.dto.TicketView;
 import com.spacetravel.entity.Client;
 import com.spacetravel.entity.Planet;
 import com.spacetravel.entity.Ticket;
 import org.flywaydb.core.Flyway;
+import org.hibernate.Hibernate;
 import org.hibernate.Session;
 import org.hibernate.Transaction;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -255,6 +263,326 @@ class TicketDaoTest {
         assertTrue(tickets.isEmpty());
     }
 
+    @Test
+    @Order(14)
+    void givenManyTickets_whenSaveAll_thenAllTicketsAreSavedWithDistinctIds() {
+        // Given
+        TicketDao batchingDao = new TicketDaoImpl(7);
+        List<Ticket> tickets = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            tickets.add(new Ticket(savedClient, savedFromPlanet, savedToPlanet, Instant.now()));
+        }
+
+        // When
+        List<Ticket> saved = batchingDao.saveAll(tickets);
+
+        // Then
+        assertEquals(25, saved.size());
+        assertEquals(25, saved.stream().map(Ticket::getId).distinct().count());
+        assertEquals(25, ticketDao.findAllByClient(savedClient.getId()).size());
+    }
+
+    @Test
+    @Order(15)
+    void givenTickets_whenFindPage_thenPagesFollowIdOrderWithoutOverlap() {
+        // Given
+        List<Ticket> tickets = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tickets.add(new Ticket(savedClient, savedFromPlanet, savedToPlanet, Instant.now()));
+        }
+        ticketDao.saveAll(tickets);
+
+        // When
+        List<Ticket> firstPage = ticketDao.findPageByClient(savedClient.getId(), 0L, 3);
+        Long cursor = firstPage.get(firstPage.size() - 1).getId();
+        List<Ticket> secondPage = ticketDao.findPageByClient(savedClient.getId(), cursor, 3);
+
+        // Then
+        assertEquals(3, firstPage.size());
+        assertEquals(2, secondPage.size());
+        assertTrue(secondPage.stream().allMatch(t -> t.getId() > cursor));
+    }
+
+    @Test
+    @Order(16)
+    void givenTickets_whenStreamAll_thenAllTicketsAreStreamedInIdOrder() {
+        // Given
+        List<Ticket> tickets = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            tickets.add(new Ticket(savedClient, savedFromPlanet, savedToPlanet, Instant.now()));
+        }
+        ticketDao.saveAll(tickets);
+        TicketDao streamingDao = new TicketDaoImpl(50, 5);
+
+        // When
+        List<Long> streamedIds;
+        try (Stream<Ticket> stream = streamingDao.streamAll()) {
+            streamedIds = stream.map(Ticket::getId).collect(Collectors.toList());
+        }
+
+        // Then
+        assertEquals(12, streamedIds.size());
+        assertEquals(streamedIds.stream().sorted().toList(), streamedIds);
+    }
+
+    @Test
+    @Order(17)
+    void givenGrowingResult_whenFindAllByFromPlanet_thenStatementCountStaysConstant() {
+        // Given
+        Statistics statistics = HibernateUtil.getSessionFactory().getStatistics();
+        // The session factory is shared by all test classes, so the flag is restored for the ones running later
+        boolean statisticsWereEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        try {
+            // Distinct clients and varied destinations, so per-row loading would grow with the result
+            List<Planet> destinations = List.of(savedToPlanet,
+                    planetDao.save(new Planet("JUP1", "Jupiter")),
+                    planetDao.save(new Planet("SAT1", "Saturn")));
+            ticketDao.saveAll(ticketsWithDistinctClients(2, destinations));
+
+            // When
+            long statementsForTwo = countStatements(statistics, () -> ticketDao.findAllByFromPlanet("EAR1"));
+            ticketDao.saveAll(ticketsWithDistinctClients(20, destinations));
+            long statementsForTwentyTwo = countStatements(statistics, () -> ticketDao.findAllByFromPlanet("EAR1"));
+
+            // Then
+            assertEquals(1, statementsForTwo);
+            assertEquals(statementsForTwo, statementsForTwentyTwo);
+        } finally {
+            statistics.setStatisticsEnabled(statisticsWereEnabled);
+        }
+    }
+
+    @Test
+    @Order(18)
+    void givenTicket_whenFindViewsByClient_thenProjectionCarriesNames() {
+        // Given
+        Ticket saved = ticketDao.save(new Ticket(savedClient, savedFromPlanet, savedToPlanet, Instant.now()));
+
+        // When
+        List<TicketView> views = ticketDao.findViewsByClient(savedClient.getId());
+
+        // Then
+        assertEquals(1, views.size());
+        TicketView view = views.get(0);
+        assertEquals(saved.getId(), view.id());
+        assertEquals("Test Client", view.clientName());
+        assertEquals("EAR1", view.fromPlanetId());
+        assertEquals("Earth", view.fromPlanetName());
+        assertEquals("Mars", view.toPlanetName());
+        assertNotNull(view.createdAt());
+    }
+
+    @Test
+    @Order(19)
+    void givenTickets_whenStreamAllViews_thenAllViewsAreStreamed() {
+        // Given
+        ticketDao.saveAll(List.of(
+                new Ticket(savedClient, savedFromPlanet, savedToPlanet, Instant.now()),
+                new Ticket(savedClient, savedToPlanet, savedFromPlanet, Instant.now())));
+
+        // When
+        List<TicketView> views;
+        try (Stream<TicketView> stream = ticketDao.streamAllViews()) {
+            views = stream.toList();
+        }
+
+        // Then
+        assertEquals(2, views.size());
+        assertTrue(views.get(0).id() < views.get(1).id());
+    }
+
+    @Test
+    @Order(20)
+    void givenTickets_whenRerouteToPlanet_thenOnlyValidTicketsAreUpdated() {
+        // Given
+        Planet saturn = planetDao.save(new Planet("SAT1", "Saturn"));
+        Ticket reroutable = ticketDao.save(new Ticket(savedClient, savedFromPlanet, savedToPlanet, Instant.now()));
+        Ticket departsFromSaturn = ticketDao.save(new Ticket(savedClient, saturn, savedToPlanet, Instant.now()));
+
+        // When
+        int updated = ticketDao.rerouteToPlanet(List.of(reroutable.getId(), departsFromSaturn.getId()), "SAT1");
+
+        // Then
+        assertEquals(1, updated);
+        assertEquals("SAT1", ticketDao.findById(reroutable.getId()).orElseThrow().getToPlanet().getId());
+        assertEquals(savedToPlanet.getId(),
+                ticketDao.findById(departsFromSaturn.getId()).orElseThrow().getToPlanet().getId());
+    }
+
+    @Test
+    @Order(21)
+    void givenMissingTicket_whenUpdateFromPlanet_thenEmptyIsReturned() {
+        // When
+        Optional<Ticket> updated = ticketDao.updateFromPlanet(99999L, savedToPlanet);
+
+        // Then
+        assertTrue(updated.isEmpty());
+    }
+
+    @Test
+    @Order(22)
+    void givenManyTickets_whenDeleteAllByClientIdInChunks_thenAllAreDeletedAndCounted() {
+        // Given
+        List<Ticket> tickets = new ArrayList<>();
+        for (int i = 0; i < 23; i++) {
+            tickets.add(new Ticket(savedClient, savedFromPlanet, savedToPlanet, Instant.now()));
+        }
+        ticketDao.saveAll(tickets);
+
+        // When
+        int deleted = ticketDao.deleteAllByClientId(savedClient.getId(), 10);
+
+        // Then
+        assertEquals(23, deleted);
+        assertTrue(ticketDao.findAllByClient(savedClient.getId()).isEmpty());
+        assertEquals(0, ticketDao.deleteAllByClientId(savedClient.getId()));
+    }
+
+    @Test
+    @Order(23)
+    void givenTicketsOfSeveralClientsAndRoutes_whenSearchWithCombinedFilters_thenOnlyMatchingTicketsAreReturned() {
+        // Given
+        Client other = clientDao.save(new Client("Other Client"));
+        Planet venus = planetDao.save(new Planet("VEN1", "Venus"));
+        Instant day1 = Instant.parse("2030-01-01T10:00:00Z");
+        Instant day2 = Instant.parse("2030-01-02T10:00:00Z");
+        Instant day3 = Instant.parse("2030-01-03T10:00:00Z");
+        Ticket earthToMars = ticketDao.save(new Ticket(savedClient, savedFromPlanet, savedToPlanet, day1));
+        Ticket marsToVenus = ticketDao.save(new Ticket(savedClient, savedToPlanet, venus, day2));
+        ticketDao.save(new Ticket(savedClient, savedFromPlanet, venus, day3));
+        ticketDao.save(new Ticket(other, venus, savedToPlanet, day2));
+
+        // When
+        List<TicketView> byClientAndPlanet = ticketDao.search(TicketSearch.builder()
+                .client(savedClient.getId()).planet("MRS1").build());
+        List<TicketView> byRouteAndDay = ticketDao.search(TicketSearch.builder()
+                .to("VEN1").since(LocalDate.of(2030, 1, 2)).until(LocalDate.of(2030, 1, 2)).build());
+
+        // Then
+        assertEquals(List.of(earthToMars.getId(), marsToVenus.getId()), byClientAndPlanet.stream().map(TicketView::id).toList());
+        assertEquals(List.of(marsToVenus.getId()), byRouteAndDay.stream().map(TicketView::id).toList());
+        assertEquals("Mars", byRouteAndDay.get(0).fromPlanetName());
+    }
+
+    @Test
+    @Order(24)
+    void givenTickets_whenSearchSortedByNewestWithLimit_thenNewestTicketsAreReturnedFirst() {
+        // Given
+        Instant now = Instant.now();
+        Ticket oldest = ticketDao.save(new Ticket(savedClient, savedFromPlanet, savedToPlanet, now.minusSeconds(300)));
+        Ticket newest = ticketDao.save(new Ticket(savedClient, savedFromPlanet, savedToPlanet, now));
+        Ticket middle = ticketDao.save(new Ticket(savedClient, savedFromPlanet, savedToPlanet, now.minusSeconds(60)));
+
+        // When
+        List<TicketView> top2 = ticketDao.search(TicketSearch.builder()
+                .sort(TicketSearch.Sort.CREATED_DESC).limit(2).build());
+        List<TicketView> all = ticketDao.search(TicketSearch.builder().sort(TicketSearch.Sort.CREATED).build());
+
+        // Then
+        assertEquals(List.of(newest.getId(), middle.getId()), top2.stream().map(TicketView::id).toList());
+        assertEquals(List.of(oldest.getId(), middle.getId(), newest.getId()), all.stream().map(TicketView::id).toList());
+    }
+
+    @Test
+    @Order(25)
+    void givenTickets_whenCountAndExistsById_thenRowsAreCountedPerFilter() {
+        // Given
+        Planet venus = planetDao.save(new Planet("VEN1", "Venus"));
+        Ticket first = ticketDao.save(new Ticket(savedClient, savedFromPlanet, savedToPlanet,
+                Instant.parse("2030-02-01T10:00:00Z")));
+        ticketDao.save(new Ticket(savedClient, savedFromPlanet, venus, Instant.parse("2030-02-02T23:59:00Z")));
+        ticketDao.save(new Ticket(savedClient, venus, savedToPlanet, Instant.parse("2030-02-03T00:00:00Z")));
+
+        // When & Then
+        assertTrue(ticketDao.existsById(first.getId()));
+        assertFalse(ticketDao.existsById(99999L));
+        assertEquals(3, ticketDao.count());
+        assertEquals(3, ticketDao.countByClient(savedClient.getId()));
+        assertEquals(2, ticketDao.countByFromPlanet("EAR1"));
+        assertEquals(2, ticketDao.countByToPlanet("MRS1"));
+        assertEquals(0, ticketDao.countByToPlanet("EAR1"));
+        assertEquals(2, ticketDao.countByDateRange(LocalDate.of(2030, 2, 1), LocalDate.of(2030, 2, 2)));
+        assertEquals(1, ticketDao.countByDateRange(LocalDate.of(2030, 2, 3), LocalDate.of(2030, 2, 3)));
+    }
+
+    @Test
+    @Order(26)
+    void givenTicket_whenDeleteById_thenOneRowIsDeleted() {
+        // Given
+        Ticket ticket = ticketDao.save(new Ticket(savedClient, savedFromPlanet, savedToPlanet, Instant.now()));
+
+        // When
+        int deleted = ticketDao.deleteById(ticket.getId());
+
+        // Then
+        assertEquals(1, deleted);
+        assertFalse(ticketDao.existsById(ticket.getId()));
+        assertEquals(0, ticketDao.deleteById(ticket.getId()));
+    }
+
+    @Test
+    @Order(27)
+    void givenTicketsInBothDirections_whenSearchByPlanetSortedWithLimit_thenBranchesAreMergedInOrder() {
+        // Given
+        Planet venus = planetDao.save(new Planet("VEN1", "Venus"));
+        Instant now = Instant.now();
+        Ticket departing = ticketDao.save(new Ticket(savedClient, savedToPlanet, venus, now.minusSeconds(120)));
+        Ticket arriving = ticketDao.save(new Ticket(savedClient, savedFromPlanet, savedToPlanet, now));
+        Ticket olderArriving = ticketDao.save(new Ticket(savedClient, venus, savedToPlanet, now.minusSeconds(60)));
+        ticketDao.save(new Ticket(savedClient, savedFromPlanet, venus, now));
+
+        // When
+        List<TicketView> newest = ticketDao.search(TicketSearch.builder()
+                .planet("MRS1").sort(TicketSearch.Sort.CREATED_DESC).limit(2).build());
+        List<TicketView> all = ticketDao.search(TicketSearch.builder().planet("MRS1").build());
+
+        // Then
+        assertEquals(List.of(arriving.getId(), olderArriving.getId()), newest.stream().map(TicketView::id).toList());
+        assertEquals(List.of(departing.getId(), arriving.getId(), olderArriving.getId()),
+                all.stream().map(TicketView::id).toList());
+    }
+
+    @Test
+    @Order(28)
+    void givenTicket_whenFindRowById_thenAssociationsStayUnloadedButCarryIds() {
+        // Given
+        Ticket saved = ticketDao.save(new Ticket(savedClient, savedFromPlanet, savedToPlanet, Instant.now()));
+
+        // When
+        Ticket row = ticketDao.findRowById(saved.getId()).orElseThrow();
+
+        // Then
+        assertFalse(Hibernate.isInitialized(row.getFromPlanet()));
+        assertFalse(Hibernate.isInitialized(row.getToPlanet()));
+        assertEquals("EAR1", row.getFromPlanet().getId());
+        assertEquals("MRS1", row.getToPlanet().getId());
+        assertTrue(ticketDao.findRowById(99999L).isEmpty());
+    }
+
+    private List<Ticket> ticketsWithDistinctClients(int count, List<Planet> destinations) {
+        List<Ticket> tickets = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Client client = clientDao.save(new Client("N+1 Client " + i));
+            tickets.add(new Ticket(client, savedFromPlanet, destinations.get(i % destinations.size()), Instant.now()));
+        }
+        return tickets;
+    }
+
+    private long countStatements(Statistics statistics, Supplier<List<Ticket>> query) {
+        // Cached clients and planets would hide per-row loads, so every association has to come from the query
+        HibernateUtil.getSessionFactory().getCache().evictAllRegions();
+        statistics.clear();
+        List<Ticket> tickets = query.get();
+        // Associations must be usable after the session is closed without further SQL
+        tickets.forEach(t -> {
+            assertNotNull(t.getClient().getName());
+            assertNotNull(t.getFromPlanet().getName());
+            assertNotNull(t.getToPlanet().getName());
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
     @AfterEach
     void cleanDb() {
         Session session = HibernateUtil.getSessionFactory().openSession();
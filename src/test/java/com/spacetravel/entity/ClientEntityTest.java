@@ -1,6 +1,7 @@
 package com.spacetravel.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
@@ -55,6 +56,9 @@ class ClientEntityTest {
         Field idField = Client.class.getDeclaredField("id");
         assertTrue(idField.isAnnotationPresent(Id.class));
         assertTrue(idField.isAnnotationPresent(GeneratedValue.class));
+        assertEquals(GenerationType.SEQUENCE, idField.getAnnotation(GeneratedValue.class).strategy());
+        assertEquals("client_seq", idField.getAnnotation(SequenceGenerator.class).sequenceName());
+        assertEquals(50, idField.getAnnotation(SequenceGenerator.class).allocationSize());
 
         // @Column on 'name' field
         Field nameField = Client.class.getDeclaredField("name");
@@ -73,7 +77,8 @@ class ClientEntityTest {
 
         OneToMany oneToMany = ticketsField.getAnnotation(OneToMany.class);
         assertEquals("client", oneToMany.mappedBy());
-        assertEquals(CascadeType.ALL, oneToMany.cascade()[0]);
-        assertTrue(oneToMany.orphanRemoval());
+        assertArrayEquals(new CascadeType[]{CascadeType.PERSIST, CascadeType.MERGE}, oneToMany.cascade());
+        assertFalse(oneToMany.orphanRemoval(), "Tickets are removed by the database, not by Hibernate");
+        assertFalse(ticketsField.isAnnotationPresent(OnDelete.class), "ON DELETE CASCADE is mapped on Ticket.client");
     }
 }
\ No newline at end of file
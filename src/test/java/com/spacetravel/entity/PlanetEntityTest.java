@@ -64,5 +64,6 @@ class PlanetEntityTest {
         Column nameColumn = nameField.getAnnotation(Column.class);
         assertFalse(nameColumn.nullable());
         assertEquals(500, nameColumn.length());
+        assertTrue(nameField.isAnnotationPresent(org.hibernate.annotations.NaturalId.class));
     }
 }
@@ -1,6 +1,8 @@
 package com.spacetravel.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
@@ -64,7 +66,9 @@ class TicketEntityTest {
         Field idField = Ticket.class.getDeclaredField("id");
         assertTrue(idField.isAnnotationPresent(Id.class));
         assertTrue(idField.isAnnotationPresent(GeneratedValue.class));
-        assertEquals(GenerationType.IDENTITY, idField.getAnnotation(GeneratedValue.class).strategy());
+        assertEquals(GenerationType.SEQUENCE, idField.getAnnotation(GeneratedValue.class).strategy());
+        assertEquals("ticket_seq", idField.getAnnotation(SequenceGenerator.class).sequenceName());
+        assertEquals(50, idField.getAnnotation(SequenceGenerator.class).allocationSize());
 
         // @Column on createdAt
         Field createdAtField = Ticket.class.getDeclaredField("createdAt");
@@ -78,6 +82,7 @@ class TicketEntityTest {
         assertTrue(clientField.isAnnotationPresent(JoinColumn.class));
         assertEquals("client_id", clientField.getAnnotation(JoinColumn.class).name());
         assertFalse(clientField.getAnnotation(JoinColumn.class).nullable());
+        assertEquals(OnDeleteAction.CASCADE, clientField.getAnnotation(OnDelete.class).action());
 
         // @ManyToOne + @JoinColumn on fromPlanet
         Field fromPlanetField = Ticket.class.getDeclaredField("fromPlanet");
@@ -85,6 +90,7 @@ class TicketEntityTest {
         assertTrue(fromPlanetField.isAnnotationPresent(JoinColumn.class));
         assertEquals("from_planet_id", fromPlanetField.getAnnotation(JoinColumn.class).name());
         assertFalse(fromPlanetField.getAnnotation(JoinColumn.class).nullable());
+        assertEquals(OnDeleteAction.CASCADE, fromPlanetField.getAnnotation(OnDelete.class).action());
 
         // @ManyToOne + @JoinColumn on toPlanet
         Field toPlanetField = Ticket.class.getDeclaredField("toPlanet");
@@ -92,6 +98,7 @@ class TicketEntityTest {
         assertTrue(toPlanetField.isAnnotationPresent(JoinColumn.class));
         assertEquals("to_planet_id", toPlanetField.getAnnotation(JoinColumn.class).name());
         assertFalse(toPlanetField.getAnnotation(JoinColumn.class).nullable());
+        assertEquals(OnDeleteAction.CASCADE, toPlanetField.getAnnotation(OnDelete.class).action());
 
     }
 
@@ -0,0 +1,258 @@
+package com.spacetravel.http;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.spacetravel.config.DatabaseExecutor;
+import com.spacetravel.entity.Client;
+import com.spacetravel.service.AsyncClientCrudService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.*;
+
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ApiServerTest {
+
+    private final HttpClient http = HttpClient.newHttpClient();
+    private DatabaseExecutor executor;
+    private ApiServer server;
+    private Long clientId;
+
+    @BeforeAll
+    void setUp() {
+        System.setProperty("config.file", "application-test.properties");
+
+        Flyway flyway = Flyway.configure()
+                .dataSource("jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=false", "sa", "")
+                .locations("filesystem:src/test/resources/db/migration")
+                .load();
+        flyway.migrate();
+
+        executor = new DatabaseExecutor();
+        server = ApiServer.create(new ServerSettings(0, 8, 200, 5_000, 30, 10), executor);
+        server.start();
+    }
+
+    @AfterAll
+    void tearDown() {
+        server.close();
+        executor.close();
+    }
+
+    @Test
+    @Order(1)
+    void givenClientJson_whenPostClients_thenCreatedWithId() throws Exception {
+        // When
+        HttpResponse<String> response = send("POST", "/clients", "{\"name\":\"Http Client\"}");
+
+        // Then
+        assertEquals(201, response.statusCode());
+        JsonNode body = ApiHandler.MAPPER.readTree(response.body());
+        assertEquals("Http Client", body.get("name").asText());
+        clientId = body.get("id").asLong();
+    }
+
+    @Test
+    @Order(2)
+    void givenExistingClient_whenGetClient_thenReturnJson() throws Exception {
+        // When
+        HttpResponse<String> response = send("GET", "/clients/" + clientId, null);
+
+        // Then
+        assertEquals(200, response.statusCode());
+        assertEquals("Http Client", ApiHandler.MAPPER.readTree(response.body()).get("name").asText());
+    }
+
+    @Test
+    @Order(3)
+    void givenMissingClient_whenGetClient_thenNotFound() throws Exception {
+        // When
+        HttpResponse<String> response = send("GET", "/clients/99999", null);
+
+        // Then
+        assertEquals(404, response.statusCode());
+        assertEquals("Client with id 99999 not found.", ApiHandler.MAPPER.readTree(response.body()).get("error").asText());
+    }
+
+    @Test
+    @Order(4)
+    void givenMalformedJson_whenPostClients_thenBadRequest() throws Exception {
+        // When
+        HttpResponse<String> response = send("POST", "/clients", "{\"name\":");
+
+        // Then
+        assertEquals(400, response.statusCode());
+    }
+
+    @Test
+    @Order(5)
+    void givenClientAndPlanets_whenPostAndListTickets_thenTicketViewIsReturned() throws Exception {
+        // Given
+        send("POST", "/planets", "{\"id\":\"HTTP1\",\"name\":\"Http One\"}");
+        send("POST", "/planets", "{\"id\":\"HTTP2\",\"name\":\"Http Two\"}");
+
+        // When
+        HttpResponse<String> created = send("POST", "/tickets",
+                "{\"clientId\":" + clientId + ",\"fromPlanetId\":\"HTTP1\",\"toPlanetId\":\"HTTP2\"}");
+        HttpResponse<String> listed = send("GET", "/tickets?clientId=" + clientId, null);
+
+        // Then
+        assertEquals(201, created.statusCode());
+        assertEquals("Http Two", ApiHandler.MAPPER.readTree(created.body()).get("toPlanetName").asText());
+        JsonNode views = ApiHandler.MAPPER.readTree(listed.body());
+        assertEquals(1, views.size());
+        assertEquals("Http One", views.get(0).get("fromPlanetName").asText());
+        assertTrue(views.get(0).get("createdAt").isTextual());
+    }
+
+    @Test
+    @Order(6)
+    void givenUnknownRoute_whenRequested_thenNotFound() throws Exception {
+        // When
+        HttpResponse<String> response = send("PATCH", "/clients", "{}");
+
+        // Then
+        assertEquals(404, response.statusCode());
+    }
+
+    @Test
+    @Order(7)
+    void givenUnknownClient_whenPostTicket_thenNotFound() throws Exception {
+        // When
+        HttpResponse<String> response = send("POST", "/tickets",
+                "{\"clientId\":987654,\"fromPlanetId\":\"HTTP1\",\"toPlanetId\":\"HTTP2\"}");
+
+        // Then
+        assertEquals(404, response.statusCode());
+        assertTrue(response.body().contains("987654"));
+    }
+
+    @Test
+    @Order(8)
+    void givenPatchOntoTicketsOtherEnd_whenPatchTicket_thenBadRequestAndTicketUnchanged() throws Exception {
+        // Given
+        send("POST", "/planets", "{\"id\":\"HTTP3\",\"name\":\"Http Three\"}");
+        HttpResponse<String> created = send("POST", "/tickets",
+                "{\"clientId\":" + clientId + ",\"fromPlanetId\":\"HTTP1\",\"toPlanetId\":\"HTTP2\"}");
+        long ticketId = ApiHandler.MAPPER.readTree(created.body()).get("id").asLong();
+
+        // When
+        HttpResponse<String> sameEnds = send("PATCH", "/tickets/" + ticketId, "{\"fromPlanetId\":\"HTTP2\"}");
+        HttpResponse<String> unknownTo = send("PATCH", "/tickets/" + ticketId,
+                "{\"fromPlanetId\":\"HTTP3\",\"toPlanetId\":\"NOWHERE\"}");
+        HttpResponse<String> both = send("PATCH", "/tickets/" + ticketId,
+                "{\"fromPlanetId\":\"HTTP2\",\"toPlanetId\":\"HTTP3\"}");
+
+        // Then
+        assertEquals(400, sameEnds.statusCode());
+        assertEquals(404, unknownTo.statusCode());
+        assertEquals(200, both.statusCode());
+        JsonNode view = ApiHandler.MAPPER.readTree(both.body());
+        assertEquals("Http Two", view.get("fromPlanetName").asText());
+        assertEquals("Http Three", view.get("toPlanetName").asText());
+    }
+
+    @Test
+    @Order(9)
+    void givenSaturatedServer_whenMoreRequestsArrive_thenTheyAreShedAndSlowOnesTimeOut() throws Exception {
+        // Given: one slot, and a client service that does not answer until released
+        StuckClientService stuck = new StuckClientService();
+        try (ApiServer slow = new ApiServer(new ServerSettings(0, 1, 50, 500, 30, 10), stuck, null, null)) {
+            slow.start();
+            URI uri = URI.create("http://localhost:" + slow.getPort() + "/clients");
+
+            // When
+            CompletableFuture<HttpResponse<String>> first = http.sendAsync(
+                    HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString());
+            Thread.sleep(100);
+            HttpResponse<String> second = http.send(
+                    HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString());
+
+            // Then
+            assertEquals(503, second.statusCode());
+            assertEquals("1", second.headers().firstValue("Retry-After").orElse(null));
+            assertEquals(504, first.join().statusCode());
+            HttpResponse<String> whileStillRunning = http.send(
+                    HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(503, whileStillRunning.statusCode(), "Timed-out work should keep its slot until it ends");
+
+            stuck.all.complete(List.of());
+            HttpResponse<String> afterRelease = http.send(
+                    HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, afterRelease.statusCode());
+        }
+    }
+
+    @Test
+    @Order(10)
+    void givenClientDisconnectsBeforeTimeout_whenWorkIsStillRunning_thenItKeepsItsSlot() throws Exception {
+        // Given: one slot, and a client service that does not answer until released
+        StuckClientService stuck = new StuckClientService();
+        try (ApiServer slow = new ApiServer(new ServerSettings(0, 1, 50, 500, 30, 10), stuck, null, null)) {
+            slow.start();
+            URI uri = URI.create("http://localhost:" + slow.getPort() + "/clients");
+
+            // When: the client resets the connection, so writing the 504 fails
+            try (Socket socket = new Socket("localhost", slow.getPort())) {
+                socket.getOutputStream().write(("GET /clients HTTP/1.1\r\nHost: localhost\r\n\r\n")
+                        .getBytes(StandardCharsets.US_ASCII));
+                socket.getOutputStream().flush();
+                Thread.sleep(100);
+                socket.setSoLinger(true, 0);
+            }
+            Thread.sleep(700);
+
+            // Then
+            HttpResponse<String> whileStillRunning = http.send(
+                    HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(503, whileStillRunning.statusCode(), "Abandoned work should keep its slot until it ends");
+
+            stuck.all.complete(List.of());
+            HttpResponse<String> afterRelease = http.send(
+                    HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, afterRelease.statusCode());
+        }
+    }
+
+    private HttpResponse<String> send(String method, String path, String json) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+                .header("Content-Type", "application/json")
+                .method(method, json == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(json));
+        return http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static final class StuckClientService implements AsyncClientCrudService {
+        private final CompletableFuture<List<Client>> all = new CompletableFuture<>();
+
+        public CompletableFuture<Client> create(String name) {
+            return new CompletableFuture<>();
+        }
+
+        public CompletableFuture<Client> findById(Long id) {
+            return new CompletableFuture<>();
+        }
+
+        public CompletableFuture<List<Client>> findAll() {
+            return all;
+        }
+
+        public CompletableFuture<Client> update(Long id, String name) {
+            return new CompletableFuture<>();
+        }
+
+        public CompletableFuture<Void> delete(Long id) {
+            return new CompletableFuture<>();
+        }
+    }
+}
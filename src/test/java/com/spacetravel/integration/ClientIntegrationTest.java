@@ -1,7 +1,6 @@
 package com.spacetravel.integration;
 
 import com.spacetravel.dao.ClientDaoImpl;
-import com.spacetravel.dao.TicketDaoImpl;
 import com.spacetravel.entity.Client;
 import com.spacetravel.exception.ClientNotFoundException;
 import com.spacetravel.service.ClientCrudServiceImpl;
@@ -28,7 +27,7 @@ class ClientIntegrationTest {
                 .load();
 
         flyway.migrate();
-        clientService = new ClientCrudServiceImpl(new ClientDaoImpl(), new TicketDaoImpl());
+        clientService = new ClientCrudServiceImpl(new ClientDaoImpl());
     }
 
     @Test
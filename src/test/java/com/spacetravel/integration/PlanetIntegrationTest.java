@@ -1,9 +1,9 @@
 package com.spacetravel.integration;
 
 import com.spacetravel.dao.PlanetDaoImpl;
-import com.spacetravel.dao.TicketDaoImpl;
 import com.spacetravel.entity.Planet;
 import com.spacetravel.exception.PlanetNotFoundException;
+import com.spacetravel.service.PlanetCatalog;
 import com.spacetravel.service.PlanetCrudServiceImpl;
 import org.flywaydb.core.Flyway;
 import org.junit.jupiter.api.*;
@@ -28,7 +28,8 @@ class PlanetIntegrationTest {
                 .load();
 
         flyway.migrate();
-        planetService  = new PlanetCrudServiceImpl(new PlanetDaoImpl(), new TicketDaoImpl());
+        PlanetDaoImpl planetDao = new PlanetDaoImpl();
+        planetService  = new PlanetCrudServiceImpl(planetDao, new PlanetCatalog(planetDao));
     }
 
     @Test
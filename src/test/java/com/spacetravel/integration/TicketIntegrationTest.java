@@ -8,6 +8,7 @@ import com.spacetravel.entity.Planet;
 import com.spacetravel.entity.Ticket;
 import com.spacetravel.exception.TicketNotFoundException;
 import com.spacetravel.service.ClientCrudServiceImpl;
+import com.spacetravel.service.PlanetCatalog;
 import com.spacetravel.service.PlanetCrudServiceImpl;
 import com.spacetravel.service.TicketCrudServiceImpl;
 import org.flywaydb.core.Flyway;
@@ -45,10 +46,11 @@ class TicketIntegrationTest {
         TicketDaoImpl ticketDao = new TicketDaoImpl();
         ClientDaoImpl clientDao = new ClientDaoImpl();
         PlanetDaoImpl planetDao = new PlanetDaoImpl();
+        PlanetCatalog planetCatalog = new PlanetCatalog(planetDao);
 
-        this.ticketService = new TicketCrudServiceImpl(ticketDao, planetDao);
-        this.clientService = new ClientCrudServiceImpl(clientDao, ticketDao);
-        this.planetService = new PlanetCrudServiceImpl(planetDao, ticketDao);
+        this.ticketService = new TicketCrudServiceImpl(ticketDao, planetCatalog);
+        this.clientService = new ClientCrudServiceImpl(clientDao);
+        this.planetService = new PlanetCrudServiceImpl(planetDao, planetCatalog);
     }
 
     private Client createClient(String name) {
@@ -0,0 +1,107 @@
+package com.spacetravel.logging;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncLogWriterTest {
+
+    @Test
+    void givenPublishedEvents_whenClosed_thenAllLinesAreWrittenInOrder() {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        LogSettings settings = new LogSettings(Level.INFO, true, null, 64, 8, LogSettings.OverflowPolicy.BLOCK);
+        AsyncLogWriter writer = new AsyncLogWriter(settings, Channels.newChannel(output));
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            writer.publish(new LogEvent(System.currentTimeMillis(), Level.INFO, "test", "line " + i, null));
+        }
+        writer.close();
+
+        // Then
+        String text = output.toString(StandardCharsets.UTF_8);
+        assertEquals(100, text.lines().count());
+        assertTrue(text.indexOf("INFO test - line 0") < text.indexOf("INFO test - line 99"));
+        assertEquals(0, writer.getDroppedCount());
+    }
+
+    @Test
+    void givenFullBufferAndDropPolicy_whenPublishing_thenCallerNeverBlocksAndDropsAreCounted() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        OutputStream stalled = new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        LogSettings settings = new LogSettings(Level.INFO, true, null, 16, 4, LogSettings.OverflowPolicy.DROP);
+        AsyncLogWriter writer = new AsyncLogWriter(settings, Channels.newChannel(stalled));
+
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            writer.publish(new LogEvent(System.currentTimeMillis(), Level.INFO, "test", "line " + i, null));
+        }
+
+        // Then
+        assertTrue(writer.getDroppedCount() >= 1_000 - 16 - 4);
+        release.countDown();
+        writer.close();
+    }
+
+    @Test
+    void givenLevelAboveDebug_whenLoggerChecksLevels_thenDisabledLevelsAreSkipped() {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        LogSettings settings = new LogSettings(Level.INFO, true, null, 64, 8, LogSettings.OverflowPolicy.BLOCK);
+        AsyncLogWriter writer = new AsyncLogWriter(settings, Channels.newChannel(output));
+        Logger logger = new AsyncLoggerFactory(settings, writer).getLogger("levels");
+
+        // When
+        logger.debug("hidden {}", 1);
+        logger.info("shown {} and {}", "a", "b");
+        writer.close();
+
+        // Then
+        assertFalse(logger.isDebugEnabled());
+        assertTrue(logger.isInfoEnabled());
+        String text = output.toString(StandardCharsets.UTF_8);
+        assertFalse(text.contains("hidden"));
+        assertTrue(text.contains("INFO levels - shown a and b"));
+    }
+
+    @Test
+    void givenLoneSurrogate_whenWritten_thenItIsReplacedAndLaterEventsAreKept() {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        LogSettings settings = new LogSettings(Level.INFO, true, null, 64, 8, LogSettings.OverflowPolicy.BLOCK);
+        AsyncLogWriter writer = new AsyncLogWriter(settings, Channels.newChannel(output));
+
+        // When
+        writer.publish(new LogEvent(System.currentTimeMillis(), Level.INFO, "test", "client \uD800 created", null));
+        writer.publish(new LogEvent(System.currentTimeMillis(), Level.INFO, "test", "next event", null));
+        writer.close();
+
+        // Then
+        String text = output.toString(StandardCharsets.UTF_8);
+        assertTrue(text.contains("INFO test - client ? created"));
+        assertTrue(text.contains("INFO test - next event"));
+    }
+}
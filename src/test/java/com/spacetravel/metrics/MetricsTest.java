@@ -0,0 +1,93 @@
+package com.spacetravel.metrics;
+
+import com.spacetravel.config.TransactionTemplate;
+import com.spacetravel.dao.ClientDao;
+import com.spacetravel.dao.ClientDaoImpl;
+import com.spacetravel.entity.Client;
+import com.spacetravel.exception.DataProcessingException;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.*;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MetricsTest {
+
+    private ClientDao clientDao;
+
+    @BeforeAll
+    void setUp() {
+        System.setProperty("config.file", "application-test.properties");
+
+        Flyway flyway = Flyway.configure()
+                .dataSource("jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=false", "sa", "")
+                .locations("filesystem:src/test/resources/db/migration")
+                .load();
+        flyway.migrate();
+
+        clientDao = Metrics.instrument(ClientDao.class, new ClientDaoImpl(), "test.client");
+    }
+
+    @Test
+    void givenInstrumentedDao_whenCalled_thenLatencyAndRowsAreRecorded() {
+        // Given
+        Timer findAll = Metrics.timer("test.client.findAll");
+        long countBefore = findAll.getCount();
+        long rowsBefore = findAll.getRows();
+
+        // When
+        int size = clientDao.findAll().size();
+        clientDao.findById(1L);
+
+        // Then
+        assertEquals(countBefore + 1, findAll.getCount());
+        assertEquals(rowsBefore + size, findAll.getRows());
+        assertTrue(Metrics.timer("test.client.findById").getCount() >= 1);
+        assertTrue(findAll.getMaxMicros() >= findAll.getP50Micros());
+    }
+
+    @Test
+    void givenFailingCall_whenInstrumented_thenOriginalExceptionIsThrownAndCounted() {
+        // Given
+        Timer save = Metrics.timer("test.client.save");
+        long errorsBefore = save.getErrors();
+
+        // When / Then
+        assertThrows(DataProcessingException.class, () -> clientDao.save(new Client("x")));
+        assertEquals(errorsBefore + 1, save.getErrors());
+    }
+
+    @Test
+    void givenTransaction_whenCommitted_thenSessionAndCommitTimesAreRecorded() {
+        // Given
+        long sessionsBefore = Metrics.timer(TransactionTemplate.SESSION_TIMER).getCount();
+        long commitsBefore = Metrics.timer(TransactionTemplate.COMMIT_TIMER).getCount();
+
+        // When
+        new TransactionTemplate().executeWithoutResult(session -> session.createNativeQuery("SELECT 1", Integer.class).getSingleResult());
+
+        // Then
+        assertEquals(sessionsBefore + 1, Metrics.timer(TransactionTemplate.SESSION_TIMER).getCount());
+        assertEquals(commitsBefore + 1, Metrics.timer(TransactionTemplate.COMMIT_TIMER).getCount());
+    }
+
+    @Test
+    void givenRecordedTimers_whenExported_thenPrometheusTextAndJmxBeansAreAvailable() throws Exception {
+        // Given
+        clientDao.findAll();
+
+        // When
+        String text = Metrics.toPrometheus();
+
+        // Then
+        assertTrue(text.contains("# TYPE spacetravel_operation_seconds summary"));
+        assertTrue(text.contains("spacetravel_operation_seconds_count{operation=\"test.client.findAll\"}"));
+        assertTrue(text.contains("spacetravel_operation_seconds{operation=\"test.client.findAll\",quantile=\"0.99\"}"));
+        ObjectName name = new ObjectName(Metrics.JMX_DOMAIN + ":type=Timer,name=" + ObjectName.quote("test.client.findAll"));
+        assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+        assertTrue((Long) ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Count") >= 1);
+    }
+}
@@ -0,0 +1,95 @@
+package com.spacetravel.service;
+
+import com.spacetravel.config.DatabaseExecutor;
+import com.spacetravel.dao.ClientDaoImpl;
+import com.spacetravel.dao.PlanetDaoImpl;
+import com.spacetravel.dao.TicketDaoImpl;
+import com.spacetravel.dto.TicketView;
+import com.spacetravel.entity.Client;
+import com.spacetravel.entity.Planet;
+import com.spacetravel.entity.Ticket;
+import com.spacetravel.exception.ClientNotFoundException;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AsyncCrudServiceTest {
+
+    private DatabaseExecutor executor;
+    private AsyncClientCrudService clientService;
+    private AsyncPlanetCrudService planetService;
+    private AsyncTicketCrudService ticketService;
+
+    @BeforeAll
+    void setUp() {
+        System.setProperty("config.file", "application-test.properties");
+
+        Flyway flyway = Flyway.configure()
+                .dataSource("jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=false", "sa", "")
+                .locations("filesystem:src/test/resources/db/migration")
+                .load();
+        flyway.migrate();
+
+        executor = new DatabaseExecutor();
+        PlanetDaoImpl planetDao = new PlanetDaoImpl();
+        TicketDaoImpl ticketDao = new TicketDaoImpl();
+        PlanetCatalog planetCatalog = new PlanetCatalog(planetDao);
+        clientService = new AsyncClientCrudServiceImpl(new ClientCrudServiceImpl(new ClientDaoImpl()), executor);
+        planetService = new AsyncPlanetCrudServiceImpl(new PlanetCrudServiceImpl(planetDao, planetCatalog), executor);
+        ticketService = new AsyncTicketCrudServiceImpl(new TicketCrudServiceImpl(ticketDao, planetCatalog), executor);
+    }
+
+    @AfterAll
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void givenManyConcurrentCreates_whenJoined_thenEveryClientIsPersisted() {
+        // When
+        List<CompletableFuture<Client>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            futures.add(clientService.create("Async client " + i));
+        }
+        List<Client> created = futures.stream().map(CompletableFuture::join).toList();
+
+        // Then
+        assertEquals(200, created.stream().map(Client::getId).distinct().count());
+        assertEquals(executor.getMaxConcurrency(), executor.getAvailablePermits());
+    }
+
+    @Test
+    void givenMissingClient_whenFindById_thenFutureFailsWithServiceException() {
+        // When
+        CompletionException ex = assertThrows(CompletionException.class,
+                () -> clientService.findById(99999L).join());
+
+        // Then
+        assertInstanceOf(ClientNotFoundException.class, ex.getCause());
+    }
+
+    @Test
+    void givenTicket_whenComposedAsyncCalls_thenViewIsReturned() {
+        // Given
+        Planet from = planetService.create("ASY1", "Async One").join();
+        Planet to = planetService.create("ASY2", "Async Two").join();
+
+        // When
+        List<TicketView> views = clientService.create("Async ticket client")
+                .thenCompose(client -> ticketService.create(new Ticket(client, from, to, Instant.now())))
+                .thenCompose(ticket -> ticketService.findViewsByClient(ticket.getClient().getId()))
+                .join();
+
+        // Then
+        assertEquals(1, views.size());
+        assertEquals("Async One", views.get(0).fromPlanetName());
+    }
+}
@@ -1,7 +1,6 @@
 package com.spacetravel.service;
 
 import com.spacetravel.dao.ClientDaoImpl;
-import com.spacetravel.dao.TicketDaoImpl;
 import com.spacetravel.entity.Client;
 import com.spacetravel.exception.ClientNotFoundException;
 import org.flywaydb.core.Flyway;
@@ -32,7 +31,7 @@ class ClientServiceTest {
 
         flyway.migrate();
 
-        service = new ClientCrudServiceImpl(new ClientDaoImpl(), new TicketDaoImpl());
+        service = new ClientCrudServiceImpl(new ClientDaoImpl());
     }
 
 
@@ -0,0 +1,187 @@
+package com.spacetravel.service;
+
+import com.spacetravel.dao.ClientDaoImpl;
+import com.spacetravel.dao.DeletionJobDaoImpl;
+import com.spacetravel.dao.PlanetDaoImpl;
+import com.spacetravel.dao.TicketDaoImpl;
+import com.spacetravel.entity.Client;
+import com.spacetravel.entity.DeletionJob;
+import com.spacetravel.entity.Planet;
+import com.spacetravel.entity.Ticket;
+import com.spacetravel.exception.ClientNotFoundException;
+import com.spacetravel.exception.PlanetNotFoundException;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DeletionJobServiceTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    private ClientDaoImpl clientDao;
+    private PlanetDaoImpl planetDao;
+    private TicketDaoImpl ticketDao;
+    private DeletionJobDaoImpl jobDao;
+    private PlanetCatalog planetCatalog;
+    private DeletionJobServiceImpl jobs;
+
+    @BeforeAll
+    void setUp() {
+        System.setProperty("config.file", "application-test.properties");
+
+        Flyway flyway = Flyway.configure()
+                .dataSource("jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=false", "sa", "")
+                .locations("filesystem:src/test/resources/db/migration")
+                .load();
+        flyway.migrate();
+
+        clientDao = new ClientDaoImpl();
+        planetDao = new PlanetDaoImpl();
+        ticketDao = new TicketDaoImpl();
+        jobDao = new DeletionJobDaoImpl();
+        planetCatalog = new PlanetCatalog(planetDao);
+    }
+
+    @BeforeEach
+    void startJobs() {
+        jobs = new DeletionJobServiceImpl(jobDao, clientDao, planetCatalog, new DeletionJobSettings(2, 0));
+    }
+
+    @AfterEach
+    void stopJobs() {
+        jobs.close();
+    }
+
+    @Test
+    void givenClientWithTickets_whenDeleteInBackground_thenTicketsAndClientAreDeleted() throws InterruptedException {
+        // Given
+        Planet from = planetDao.save(new Planet("DJF", "Deletion Job From"));
+        Planet to = planetDao.save(new Planet("DJT", "Deletion Job To"));
+        Client client = clientDao.save(new Client("Deletion Job Client"));
+        saveTickets(client, from, to, 7);
+
+        // When
+        DeletionJob started = jobs.deleteClientInBackground(client.getId());
+        DeletionJob finished = awaitFinished(started.getId());
+
+        // Then
+        assertEquals(7, started.getTicketsAtStart());
+        assertEquals(DeletionJob.Status.DONE, finished.getStatus());
+        assertEquals(7, finished.getDeletedTickets());
+        assertEquals(100.0, finished.getProgressPercent());
+        assertTrue(ticketDao.findAllByClient(client.getId()).isEmpty());
+        assertTrue(clientDao.findById(client.getId()).isEmpty());
+        assertTrue(planetDao.findById("DJF").isPresent(), "Planets should not be affected");
+    }
+
+    @Test
+    void givenPlanetOnBothRouteEnds_whenDeleteInBackground_thenPlanetLeavesCatalog() throws InterruptedException {
+        // Given
+        Planet doomed = planetDao.save(new Planet("DJP", "Deletion Job Planet"));
+        Planet other = planetDao.save(new Planet("DJO", "Deletion Job Other"));
+        Client client = clientDao.save(new Client("Deletion Job Traveller"));
+        saveTickets(client, doomed, other, 3);
+        saveTickets(client, other, doomed, 2);
+        planetCatalog.refresh();
+
+        // When
+        DeletionJob finished = awaitFinished(jobs.deletePlanetInBackground("DJP").getId());
+
+        // Then
+        assertEquals(DeletionJob.Status.DONE, finished.getStatus());
+        assertEquals(5, finished.getDeletedTickets());
+        assertTrue(planetCatalog.findById("DJP").isEmpty());
+        assertTrue(ticketDao.findAllByToPlanet("DJP").isEmpty());
+        assertTrue(clientDao.findById(client.getId()).isPresent(), "Clients should not be affected");
+    }
+
+    @Test
+    void givenChunkedDeletion_whenDeleteNextChunk_thenCheckpointIsCommittedWithEachChunk() {
+        // Given
+        Planet from = planetDao.save(new Planet("DJC", "Deletion Job Chunks"));
+        Client client = clientDao.save(new Client("Deletion Job Chunks"));
+        List<Ticket> tickets = saveTickets(client, from, from, 5);
+        DeletionJob job = jobDao.save(new DeletionJob(DeletionJob.TargetType.CLIENT, String.valueOf(client.getId()), 5));
+
+        // When
+        int first = jobDao.deleteNextChunk(job, 2);
+        DeletionJob stored = jobDao.findById(job.getId()).orElseThrow();
+
+        // Then
+        assertEquals(2, first);
+        assertEquals(DeletionJob.Status.RUNNING, stored.getStatus());
+        assertEquals(2, stored.getDeletedTickets());
+        assertEquals(tickets.get(1).getId(), stored.getLastTicketId());
+        assertEquals(2, jobDao.deleteNextChunk(job, 2));
+        assertEquals(1, jobDao.deleteNextChunk(job, 2));
+        assertEquals(0, jobDao.deleteNextChunk(job, 2));
+        assertTrue(clientDao.findById(client.getId()).isPresent(), "Parent is deleted only by complete()");
+        assertTrue(jobDao.complete(job));
+        assertTrue(clientDao.findById(client.getId()).isEmpty());
+    }
+
+    @Test
+    void givenJobLeftRunningByPreviousProcess_whenResumeUnfinished_thenItFinishesFromCheckpoint() throws InterruptedException {
+        // Given
+        Planet from = planetDao.save(new Planet("DJR", "Deletion Job Resume"));
+        Client client = clientDao.save(new Client("Deletion Job Resume"));
+        saveTickets(client, from, from, 4);
+        DeletionJob job = jobDao.save(new DeletionJob(DeletionJob.TargetType.CLIENT, String.valueOf(client.getId()), 4));
+        jobDao.deleteNextChunk(job, 3);
+
+        // When
+        int resumed = jobs.resumeUnfinished();
+        DeletionJob finished = awaitFinished(job.getId());
+
+        // Then
+        assertTrue(resumed >= 1);
+        assertEquals(DeletionJob.Status.DONE, finished.getStatus());
+        assertEquals(4, finished.getDeletedTickets(), "Resumed job should count each ticket once");
+        assertTrue(clientDao.findById(client.getId()).isEmpty());
+    }
+
+    @Test
+    void givenClientAlreadyBeingDeleted_whenDeleteInBackgroundAgain_thenSameJobIsReturned() {
+        // Given
+        Client client = clientDao.save(new Client("Deletion Job Twice"));
+        DeletionJob pending = jobDao.save(new DeletionJob(DeletionJob.TargetType.CLIENT, String.valueOf(client.getId()), 0));
+
+        // When
+        DeletionJob returned = jobs.deleteClientInBackground(client.getId());
+
+        // Then
+        assertEquals(pending.getId(), returned.getId());
+    }
+
+    @Test
+    void givenNonExistingTargets_whenDeleteInBackground_thenThrowNotFound() {
+        assertThrows(ClientNotFoundException.class, () -> jobs.deleteClientInBackground(987654L));
+        assertThrows(PlanetNotFoundException.class, () -> jobs.deletePlanetInBackground("NOPE404"));
+        assertThrows(IllegalArgumentException.class, () -> jobs.deleteClientInBackground(0L));
+    }
+
+    private List<Ticket> saveTickets(Client client, Planet from, Planet to, int count) {
+        List<Ticket> tickets = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tickets.add(new Ticket(client, from, to));
+        }
+        return ticketDao.saveAll(tickets);
+    }
+
+    private DeletionJob awaitFinished(Long jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            DeletionJob job = jobDao.findById(jobId).orElseThrow();
+            if (job.isFinished()) {
+                return job;
+            }
+            Thread.sleep(20);
+        }
+        return fail("Deletion job " + jobId + " did not finish in time");
+    }
+}
@@ -0,0 +1,101 @@
+package com.spacetravel.service;
+
+import com.spacetravel.dao.PlanetDaoImpl;
+import com.spacetravel.entity.Planet;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PlanetCatalogTest {
+
+    private PlanetDaoImpl planetDao;
+    private PlanetCatalog catalog;
+    private PlanetCrudServiceImpl planetService;
+
+    @BeforeAll
+    void setUp() {
+        System.setProperty("config.file", "application-test.properties");
+
+        Flyway flyway = Flyway.configure()
+                .dataSource("jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=false", "sa", "")
+                .locations("filesystem:src/test/resources/db/migration")
+                .load();
+        flyway.migrate();
+    }
+
+    @BeforeEach
+    void setUpCatalog() {
+        planetDao = new PlanetDaoImpl();
+        catalog = new PlanetCatalog(planetDao);
+        planetService = new PlanetCrudServiceImpl(planetDao, catalog);
+    }
+
+    @Test
+    void givenPlanetCreatedThroughService_whenFindByIdAndName_thenCatalogServesIt() {
+        // Given
+        planetService.create("CAT1", "Catalog One");
+
+        // When
+        Planet byId = catalog.findById("CAT1").orElse(null);
+        Planet byName = catalog.findByName("Catalog One").orElse(null);
+
+        // Then
+        assertNotNull(byId);
+        assertNotNull(byName);
+        assertEquals("CAT1", byName.getId());
+    }
+
+    @Test
+    void givenPlanetRenamedThroughService_whenFindByName_thenOldNameIsGone() {
+        // Given
+        planetService.create("CAT2", "Catalog Two");
+
+        // When
+        planetService.update("CAT2", "Catalog Two Renamed");
+
+        // Then
+        assertTrue(catalog.findByName("Catalog Two").isEmpty());
+        assertEquals("Catalog Two Renamed", catalog.findById("CAT2").map(Planet::getName).orElse(null));
+    }
+
+    @Test
+    void givenPlanetDeletedThroughService_whenFindById_thenEmpty() {
+        // Given
+        planetService.create("CAT3", "Catalog Three");
+        assertTrue(catalog.findById("CAT3").isPresent());
+
+        // When
+        planetService.delete("CAT3");
+
+        // Then
+        assertTrue(catalog.findById("CAT3").isEmpty());
+    }
+
+    @Test
+    void givenPlanetSavedBehindCatalog_whenFindById_thenMissFallsBackToDatabase() {
+        // Given
+        catalog.refresh();
+        planetDao.save(new Planet("CAT4", "Catalog Four"));
+
+        // When
+        Planet found = catalog.findById("CAT4").orElse(null);
+
+        // Then
+        assertNotNull(found);
+        assertEquals("Catalog Four", found.getName());
+    }
+
+    @Test
+    void givenCatalogPlanet_whenCallerMutatesResult_thenCatalogIsUnaffected() {
+        // Given
+        planetService.create("CAT5", "Catalog Five");
+
+        // When
+        catalog.findById("CAT5").ifPresent(planet -> planet.setName("Mutated"));
+
+        // Then
+        assertEquals("Catalog Five", catalog.findById("CAT5").map(Planet::getName).orElse(null));
+    }
+}
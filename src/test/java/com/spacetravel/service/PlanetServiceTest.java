@@ -1,8 +1,8 @@
 package com.spacetravel.service;
 
 import com.spacetravel.dao.PlanetDaoImpl;
-import com.spacetravel.dao.TicketDaoImpl;
 import com.spacetravel.entity.Planet;
+import com.spacetravel.exception.DuplicatePlanetIdException;
 import com.spacetravel.exception.PlanetNotFoundException;
 import org.flywaydb.core.Flyway;
 import org.junit.jupiter.api.*;
@@ -32,7 +32,8 @@ class PlanetServiceTest {
 
         flyway.migrate();
 
-        service = new PlanetCrudServiceImpl(new PlanetDaoImpl(), new TicketDaoImpl());
+        PlanetDaoImpl planetDao = new PlanetDaoImpl();
+        service = new PlanetCrudServiceImpl(planetDao, new PlanetCatalog(planetDao));
     }
 
 
@@ -134,4 +135,16 @@ class PlanetServiceTest {
                 () -> service.delete(invalidId),
                 "Deleting non-existing planet should throw PlanetNotFoundException");
     }
+
+    @Test
+    @Order(9)
+    void givenPlanetSavedOutsideService_whenCreateWithSameId_thenThrowDuplicatePlanetIdException() {
+        // Given
+        new PlanetDaoImpl().save(new Planet("planet-002", "Saved Behind The Catalog"));
+
+        // When & Then
+        assertThrows(DuplicatePlanetIdException.class,
+                () -> service.create("planet-002", "Duplicate"),
+                "Duplicate check should see rows the planet catalog snapshot does not know yet");
+    }
 }
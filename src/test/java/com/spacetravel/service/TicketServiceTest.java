@@ -3,9 +3,12 @@ package com.spacetravel.service;
 import com.spacetravel.dao.ClientDaoImpl;
 import com.spacetravel.dao.PlanetDaoImpl;
 import com.spacetravel.dao.TicketDaoImpl;
+import com.spacetravel.dto.TicketSearch;
 import com.spacetravel.entity.Client;
 import com.spacetravel.entity.Planet;
 import com.spacetravel.entity.Ticket;
+import com.spacetravel.exception.ClientNotFoundException;
+import com.spacetravel.exception.PlanetNotFoundException;
 import com.spacetravel.exception.TicketNotFoundException;
 import org.flywaydb.core.Flyway;
 import org.junit.jupiter.api.*;
@@ -25,6 +28,7 @@ class TicketServiceTest {
     private static TicketCrudServiceImpl service;
     private ClientCrudServiceImpl clientService;
     private PlanetCrudServiceImpl planetService;
+    private PlanetCatalog planetCatalog;
 
     @BeforeAll
     static void setUp() {
@@ -48,10 +52,11 @@ class TicketServiceTest {
         ClientDaoImpl clientDao = new ClientDaoImpl();
         TicketDaoImpl ticketDao = new TicketDaoImpl();
         PlanetDaoImpl planetDao = new PlanetDaoImpl();
+        planetCatalog = new PlanetCatalog(planetDao);
 
-        clientService = new ClientCrudServiceImpl(clientDao, ticketDao);
-        planetService = new PlanetCrudServiceImpl(planetDao, ticketDao);
-        service = new TicketCrudServiceImpl(ticketDao, planetDao);
+        clientService = new ClientCrudServiceImpl(clientDao);
+        planetService = new PlanetCrudServiceImpl(planetDao, planetCatalog);
+        service = new TicketCrudServiceImpl(ticketDao, planetCatalog);
     }
 
     private Client createAndSaveClient(String name) {
@@ -448,4 +453,153 @@ class TicketServiceTest {
         assertEquals("No tickets found for toPlanetId: NON_EXIST", ex.getMessage());
 
     }
+
+    @Test
+    @Order(25)
+    void givenExistingIds_whenCreateByReference_thenTicketIsSaved() {
+        // Given
+        Client client = createAndSaveClient("ReferenceClient");
+        createAndSavePlanet("EARTH-16", "Earth-16");
+        createAndSavePlanet("MARS-16", "Mars-16");
+
+        // When
+        Ticket created = service.create(client.getId(), "EARTH-16", "MARS-16");
+
+        // Then
+        assertNotNull(created.getId());
+        Ticket found = service.findById(created.getId());
+        assertEquals("ReferenceClient", found.getClient().getName());
+        assertEquals("Earth-16", found.getFromPlanet().getName());
+        assertEquals("Mars-16", found.getToPlanet().getName());
+    }
+
+    @Test
+    @Order(26)
+    void givenNonExistingClientId_whenCreateByReference_thenThrowClientNotFoundException() {
+        // Given
+        createAndSavePlanet("EARTH-17", "Earth-17");
+        createAndSavePlanet("MARS-17", "Mars-17");
+
+        // When & Then
+        ClientNotFoundException ex = assertThrows(
+                ClientNotFoundException.class,
+                () -> service.create(987654L, "EARTH-17", "MARS-17")
+        );
+        assertEquals("Client with id 987654 not found.", ex.getMessage());
+        assertTrue(service.findAllByFromPlanet("EARTH-17").isEmpty());
+    }
+
+    @Test
+    @Order(27)
+    void givenNonExistingPlanetIds_whenCreateByReference_thenThrowPlanetNotFoundException() {
+        // Given
+        Client client = createAndSaveClient("ReferenceClientTwo");
+        createAndSavePlanet("EARTH-18", "Earth-18");
+
+        // When & Then
+        PlanetNotFoundException fromEx = assertThrows(
+                PlanetNotFoundException.class,
+                () -> service.create(client.getId(), "NOWHERE", "EARTH-18")
+        );
+        assertEquals("From planet not found with id: NOWHERE", fromEx.getMessage());
+
+        PlanetNotFoundException toEx = assertThrows(
+                PlanetNotFoundException.class,
+                () -> service.create(client.getId(), "EARTH-18", "NOWHERE")
+        );
+        assertEquals("To planet not found with id: NOWHERE", toEx.getMessage());
+    }
+
+    @Test
+    @Order(28)
+    void givenInvalidSearch_whenSearch_thenThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> service.search(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.search(TicketSearch.builder().limit(TicketCrudServiceImpl.MAX_PAGE_SIZE + 1).build()));
+        assertThrows(IllegalArgumentException.class, () -> service.search(TicketSearch.builder().planet(" ").build()));
+        assertThrows(IllegalArgumentException.class, () -> service.search(TicketSearch.builder().client(0L).build()));
+        assertThrows(IllegalArgumentException.class, () -> TicketSearch.builder().limit(0).build());
+        assertThrows(IllegalArgumentException.class, () -> TicketSearch.builder()
+                .since(LocalDate.of(2030, 1, 2)).until(LocalDate.of(2030, 1, 1)).build());
+    }
+
+    @Test
+    @Order(29)
+    void givenInvalidCountArguments_whenCount_thenThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> service.countByClient(0L));
+        assertThrows(IllegalArgumentException.class, () -> service.countByFromPlanet(" "));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.countByDateRange(LocalDate.of(2030, 1, 2), LocalDate.of(2030, 1, 1)));
+    }
+
+    @Test
+    @Order(30)
+    void givenBothEnds_whenUpdatePlanets_thenBothChange() {
+        // Given
+        Client client = createAndSaveClient("Both Ends");
+        Planet earth = createAndSavePlanet("EARTH-19", "Earth-19");
+        Planet mars = createAndSavePlanet("MARS-19", "Mars-19");
+        Planet venus = createAndSavePlanet("VEN-19", "Venus-19");
+        Ticket ticket = createAndSaveTicket(client, earth, mars, Instant.now());
+
+        // When: the two ends swap, which a pair of single-end updates could not do
+        service.updatePlanets(ticket.getId(), mars.getId(), earth.getId());
+        Ticket swapped = service.findById(ticket.getId());
+        service.updatePlanets(ticket.getId(), null, venus.getId());
+        Ticket rerouted = service.findById(ticket.getId());
+
+        // Then
+        assertEquals("MARS-19", swapped.getFromPlanet().getId());
+        assertEquals("EARTH-19", swapped.getToPlanet().getId());
+        assertEquals("MARS-19", rerouted.getFromPlanet().getId());
+        assertEquals("VEN-19", rerouted.getToPlanet().getId());
+    }
+
+    @Test
+    @Order(31)
+    void givenEndsThatWouldMatch_whenUpdatePlanets_thenRejectAndKeepTicket() {
+        // Given
+        Client client = createAndSaveClient("Same Ends");
+        Planet earth = createAndSavePlanet("EARTH-20", "Earth-20");
+        Planet mars = createAndSavePlanet("MARS-20", "Mars-20");
+        Ticket ticket = createAndSaveTicket(client, earth, mars, Instant.now());
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> service.updateFromPlanet(ticket.getId(), mars.getId()));
+        assertThrows(IllegalArgumentException.class, () -> service.updateToPlanet(ticket.getId(), earth.getId()));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.updatePlanets(ticket.getId(), mars.getId(), mars.getId()));
+        assertThrows(PlanetNotFoundException.class,
+                () -> service.updatePlanets(ticket.getId(), mars.getId(), "NOWHERE"));
+        assertThrows(IllegalArgumentException.class, () -> service.updatePlanets(ticket.getId(), null, null));
+        assertThrows(IllegalArgumentException.class, () -> service.updateFromPlanet(ticket.getId(), earth.getId()));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.updatePlanets(ticket.getId(), earth.getId(), mars.getId()));
+
+        Ticket unchanged = service.findById(ticket.getId());
+        assertEquals("EARTH-20", unchanged.getFromPlanet().getId());
+        assertEquals("MARS-20", unchanged.getToPlanet().getId());
+    }
+
+    @Test
+    @Order(32)
+    void givenDeleteChunkSize_whenDeleteAllByFromPlanetId_thenAllChunksAreDeletedAndCounted() {
+        // Given
+        TicketCrudServiceImpl chunked = new TicketCrudServiceImpl(new TicketDaoImpl(), planetCatalog, 2);
+        Client client = createAndSaveClient("Chunked");
+        Planet earth = createAndSavePlanet("EARTH-21", "Earth-21");
+        Planet mars = createAndSavePlanet("MARS-21", "Mars-21");
+        for (int i = 0; i < 5; i++) {
+            createAndSaveTicket(client, earth, mars, Instant.now());
+        }
+
+        // When
+        int deleted = chunked.deleteAllByFromPlanetId("EARTH-21");
+
+        // Then
+        assertEquals(5, deleted);
+        assertEquals(0, service.countByFromPlanet("EARTH-21"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TicketCrudServiceImpl(new TicketDaoImpl(), planetCatalog, -1));
+    }
 }
@@ -0,0 +1,8 @@
+-- Sequence-backed ticket ids so Hibernate can batch inserts.
+-- INCREMENT BY must match the allocationSize of the Ticket id generator (pooled-lo optimizer).
+CREATE SEQUENCE ticket_seq START WITH 1 INCREMENT BY 50;
+
+ALTER SEQUENCE ticket_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM ticket);
+
+ALTER TABLE ticket ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE ticket ALTER COLUMN id SET DEFAULT NEXT VALUE FOR ticket_seq;
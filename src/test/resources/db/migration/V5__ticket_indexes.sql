@@ -0,0 +1,6 @@
+-- Secondary indexes for the ticket lookups and bulk deletes in TicketDaoImpl.
+-- Each foreign key is paired with created_at so filtered listings can also be range-scanned by date.
+CREATE INDEX idx_ticket_client_created ON ticket (client_id, created_at);
+CREATE INDEX idx_ticket_from_planet_created ON ticket (from_planet_id, created_at);
+CREATE INDEX idx_ticket_to_planet_created ON ticket (to_planet_id, created_at);
+CREATE INDEX idx_ticket_created ON ticket (created_at);
@@ -0,0 +1,5 @@
+-- Keyset indexes for chunked ticket deletes: "fk = ? AND id > ? ORDER BY id" seeks to the cursor and reads
+-- the next ids in order, instead of scanning and sorting every remaining match of the (fk, created_at) indexes.
+CREATE INDEX idx_ticket_client_id ON ticket (client_id, id);
+CREATE INDEX idx_ticket_from_planet_id ON ticket (from_planet_id, id);
+CREATE INDEX idx_ticket_to_planet_id ON ticket (to_planet_id, id);